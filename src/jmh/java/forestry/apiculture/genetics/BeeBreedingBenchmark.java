@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture.genetics;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forestry.api.apiculture.IBee;
+import forestry.api.apiculture.IBeeHousing;
+import forestry.api.apiculture.IBeeMutation;
+
+/**
+ * Lets mated queens spawn their drones. Every drone inherits the chromosomes of both parents, after the species of
+ * the parents were checked for mutations.
+ * <p>
+ * The queens of {@code mutating} are mated with a drone of a species they have a mutation with, so the chances of the
+ * mutations are calculated for every drone. The other queens are mated with random drones, which mostly have no
+ * mutation with the queen.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeeBreedingBenchmark {
+	private static final int QUEEN_COUNT = 64;
+
+	@Param({"false", "true"})
+	public boolean mutating;
+
+	private final IBee[] queens = new IBee[QUEEN_COUNT];
+	private IBeeHousing housing;
+	private int index;
+
+	@Setup
+	public void setup() {
+		BenchmarkBees bees = BenchmarkBees.getInstance();
+		BeeRoot beeRoot = bees.getBeeRoot();
+		housing = bees.getHousing();
+		bees.getWorld().rand.setSeed(1);
+
+		Random random = new Random(1);
+		List<IBeeMutation> mutations = beeRoot.getMutations(false);
+		for (int i = 0; i < QUEEN_COUNT; i++) {
+			if (mutating) {
+				IBeeMutation mutation = mutations.get(random.nextInt(mutations.size()));
+				IBee queen = beeRoot.templateAsIndividual(beeRoot.getTemplate(mutation.getAllele0()));
+				queen.mate(beeRoot.templateAsIndividual(beeRoot.getTemplate(mutation.getAllele1())));
+				queens[i] = queen;
+			} else {
+				queens[i] = bees.createMatedQueen(random);
+			}
+		}
+	}
+
+	@Benchmark
+	public List<IBee> spawnDrones() {
+		index = (index + 1) & (QUEEN_COUNT - 1);
+		return queens[index].spawnDrones(housing);
+	}
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture.genetics;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.item.ItemStack;
+
+import forestry.api.apiculture.EnumBeeType;
+import forestry.api.apiculture.IBee;
+
+/**
+ * Reads the bees of drone, princess and queen stacks, like the machines and guis do for the stacks in their slots.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeeRootBenchmark {
+	private static final int STACK_COUNT = 256;
+	private static final EnumBeeType[] BEE_TYPES = {EnumBeeType.DRONE, EnumBeeType.PRINCESS, EnumBeeType.QUEEN};
+
+	private final ItemStack[] stacks = new ItemStack[STACK_COUNT];
+	private BeeRoot beeRoot;
+	private int index;
+
+	@Setup
+	public void setup() {
+		BenchmarkBees bees = BenchmarkBees.getInstance();
+		beeRoot = bees.getBeeRoot();
+
+		Random random = new Random(1);
+		for (int i = 0; i < STACK_COUNT; i++) {
+			EnumBeeType beeType = BEE_TYPES[random.nextInt(BEE_TYPES.length)];
+			IBee bee = beeType == EnumBeeType.QUEEN ? bees.createMatedQueen(random) : beeRoot.getBee(bees.createGenome(random));
+			stacks[i] = bees.createStack(bee, beeType);
+		}
+	}
+
+	@Benchmark
+	public IBee getMember() {
+		index = (index + 1) & (STACK_COUNT - 1);
+		return beeRoot.getMember(stacks[index]);
+	}
+}
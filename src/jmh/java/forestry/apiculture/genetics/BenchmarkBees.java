@@ -0,0 +1,388 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture.genetics;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import net.minecraft.init.Biomes;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.Vec3i;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.Biome;
+
+import com.mojang.authlib.GameProfile;
+
+import forestry.api.apiculture.BeeManager;
+import forestry.api.apiculture.EnumBeeChromosome;
+import forestry.api.apiculture.EnumBeeType;
+import forestry.api.apiculture.IAlleleBeeSpecies;
+import forestry.api.apiculture.IBee;
+import forestry.api.apiculture.IBeeGenome;
+import forestry.api.apiculture.IBeeHousing;
+import forestry.api.apiculture.IBeeHousingInventory;
+import forestry.api.apiculture.IBeeListener;
+import forestry.api.apiculture.IBeeModifier;
+import forestry.api.apiculture.IBeekeepingLogic;
+import forestry.api.core.EnumHumidity;
+import forestry.api.core.EnumTemperature;
+import forestry.api.core.IErrorLogic;
+import forestry.api.genetics.AlleleManager;
+import forestry.api.genetics.EnumTolerance;
+import forestry.api.genetics.IAllele;
+import forestry.api.genetics.IClassification;
+import forestry.api.genetics.IClassification.EnumClassLevel;
+import forestry.api.genetics.IFlowerProvider;
+import forestry.apiculture.FakeBeekeepingLogic;
+import forestry.apiculture.genetics.alleles.AlleleEffectNone;
+import forestry.apiculture.items.ItemBeeGE;
+import forestry.apiculture.tiles.FakeBeeHousingInventory;
+import forestry.core.benchmark.BenchmarkWorld;
+import forestry.core.config.Constants;
+import forestry.core.errors.FakeErrorLogic;
+import forestry.core.genetics.alleles.AlleleBoolean;
+import forestry.core.genetics.alleles.AlleleFactory;
+import forestry.core.genetics.alleles.AlleleRegistry;
+import forestry.core.genetics.alleles.AlleleTolerance;
+import forestry.core.genetics.alleles.EnumAllele;
+import forestry.core.genetics.alleles.IAlleleValue;
+
+/**
+ * Sets up the allele registry and the bee root without loading the mod, for the benchmarks of the genetics code.
+ * <p>
+ * The alleles are created from {@link EnumAllele} like the alleles of the real bees, except for the effects. The
+ * species are generated with a seeded random template each, and every species has a few mutations with other
+ * generated species. The bee items are created but not registered.
+ * <p>
+ * The allele palette of the compact genome format needs the mod to be loaded, so genomes are always saved in the
+ * legacy format here.
+ */
+public final class BenchmarkBees {
+	public static final int SPECIES_COUNT = 64;
+	public static final int MUTATIONS_PER_SPECIES = 4;
+	public static final int MUTATION_CHANCE = 10;
+	private static final long SEED = 42;
+
+	@Nullable
+	private static BenchmarkBees instance;
+
+	private final BenchmarkWorld world;
+	private final BeeRoot beeRoot;
+	private final IBeeHousing housing;
+	private final List<IAlleleBeeSpecies> species = new ArrayList<>();
+	private final List<IAllele[]> templates = new ArrayList<>();
+	private final Map<EnumBeeType, ItemBeeGE> beeItems = new EnumMap<>(EnumBeeType.class);
+
+	public static BenchmarkBees getInstance() {
+		if (instance == null) {
+			instance = new BenchmarkBees();
+		}
+		return instance;
+	}
+
+	private BenchmarkBees() {
+		world = new BenchmarkWorld(SEED);
+		Random random = new Random(SEED);
+
+		AlleleManager.alleleRegistry = new AlleleRegistry();
+		AlleleManager.alleleFactory = new AlleleFactory();
+		AlleleManager.alleleRegistry.initialize();
+
+		BeeManager.beeFactory = new BeeFactory();
+		BeeManager.beeMutationFactory = new BeeMutationFactory();
+
+		Map<EnumBeeChromosome, List<IAllele>> alleles = createAlleles();
+		IClassification branch = createBranch();
+		for (int i = 0; i < SPECIES_COUNT; i++) {
+			IAlleleBeeSpecies beeSpecies = BeeManager.beeFactory.createSpecies(Constants.MOD_ID, Constants.MOD_ID + ".speciesBenchmark" + i, random.nextBoolean(),
+				"Benchmark", "for.bees.species.benchmark" + i, "for.description.speciesBenchmark" + i, branch, "benchmark" + i,
+				random.nextInt(0xFFFFFF), random.nextInt(0xFFFFFF)).build();
+
+			IAllele[] template = new IAllele[EnumBeeChromosome.values().length];
+			template[EnumBeeChromosome.SPECIES.ordinal()] = beeSpecies;
+			for (Map.Entry<EnumBeeChromosome, List<IAllele>> entry : alleles.entrySet()) {
+				List<IAllele> options = entry.getValue();
+				template[entry.getKey().ordinal()] = options.get(random.nextInt(options.size()));
+			}
+			species.add(beeSpecies);
+			templates.add(template);
+		}
+
+		beeRoot = new BenchmarkBeeRoot(templates.get(0));
+		BeeManager.beeRoot = beeRoot;
+		AlleleManager.alleleRegistry.registerSpeciesRoot(beeRoot);
+		beeRoot.registerBeekeepingMode(BeekeepingMode.normal);
+		beeRoot.setBeekeepingMode(world, BeekeepingMode.normal);
+
+		for (IAllele[] template : templates) {
+			beeRoot.registerTemplate(template);
+		}
+		for (int i = 0; i < SPECIES_COUNT; i++) {
+			for (int j = 0; j < MUTATIONS_PER_SPECIES; j++) {
+				IAlleleBeeSpecies otherParent = species.get((i + 1 + random.nextInt(SPECIES_COUNT - 1)) % SPECIES_COUNT);
+				IAllele[] result = templates.get(random.nextInt(SPECIES_COUNT));
+				BeeManager.beeMutationFactory.createMutation(species.get(i), otherParent, result, MUTATION_CHANCE);
+			}
+		}
+
+		for (EnumBeeType beeType : EnumBeeType.values()) {
+			beeItems.put(beeType, new ItemBeeGE(beeType));
+		}
+		housing = new BenchmarkBeeHousing(world);
+	}
+
+	private static Map<EnumBeeChromosome, List<IAllele>> createAlleles() {
+		Map<EnumBeeChromosome, List<IAllele>> alleles = new EnumMap<>(EnumBeeChromosome.class);
+		createAlleles(alleles, "speed", EnumAllele.Speed.values(), EnumBeeChromosome.SPEED);
+		createAlleles(alleles, "lifespan", EnumAllele.Lifespan.values(), EnumBeeChromosome.LIFESPAN);
+		createAlleles(alleles, "fertility", EnumAllele.Fertility.values(), EnumBeeChromosome.FERTILITY);
+		createAlleles(alleles, "tolerance", EnumAllele.Tolerance.values(), EnumBeeChromosome.TEMPERATURE_TOLERANCE, EnumBeeChromosome.HUMIDITY_TOLERANCE);
+		createAlleles(alleles, "flowers", EnumAllele.Flowers.values(), EnumBeeChromosome.FLOWER_PROVIDER);
+		createAlleles(alleles, "flowering", EnumAllele.Flowering.values(), EnumBeeChromosome.FLOWERING);
+		createAlleles(alleles, "territory", EnumAllele.Territory.values(), EnumBeeChromosome.TERRITORY);
+
+		List<IAllele> booleans = new ArrayList<>();
+		for (boolean value : new boolean[]{true, false}) {
+			IAllele alleleBoolean = new AlleleBoolean(Constants.MOD_ID, "bool", value, false);
+			AlleleManager.alleleRegistry.registerAllele(alleleBoolean, EnumBeeChromosome.NEVER_SLEEPS, EnumBeeChromosome.TOLERATES_RAIN, EnumBeeChromosome.CAVE_DWELLING);
+			booleans.add(alleleBoolean);
+		}
+		alleles.put(EnumBeeChromosome.NEVER_SLEEPS, booleans);
+		alleles.put(EnumBeeChromosome.TOLERATES_RAIN, booleans);
+		alleles.put(EnumBeeChromosome.CAVE_DWELLING, booleans);
+
+		// the real effects need the world to be ticked, they don't change how bees are bred
+		IAllele effectNone = new AlleleEffectNone("none", true);
+		AlleleManager.alleleRegistry.registerAllele(effectNone, EnumBeeChromosome.EFFECT);
+		alleles.put(EnumBeeChromosome.EFFECT, Collections.singletonList(effectNone));
+		return alleles;
+	}
+
+	private static void createAlleles(Map<EnumBeeChromosome, List<IAllele>> alleles, String category, IAlleleValue<?>[] values, EnumBeeChromosome... types) {
+		List<IAllele> created = new ArrayList<>();
+		for (IAlleleValue<?> value : values) {
+			created.add(createAllele(category, value, types));
+		}
+		for (EnumBeeChromosome type : types) {
+			alleles.put(type, created);
+		}
+	}
+
+	private static IAllele createAllele(String category, IAlleleValue<?> enumValue, EnumBeeChromosome... types) {
+		Object value = enumValue.getValue();
+		boolean isDominant = enumValue.isDominant();
+		String name = enumValue.toString().toLowerCase(Locale.ENGLISH);
+
+		if (value instanceof Float) {
+			return AlleleManager.alleleFactory.createFloat(Constants.MOD_ID, category, name, (Float) value, isDominant, types);
+		} else if (value instanceof Integer) {
+			return AlleleManager.alleleFactory.createInteger(Constants.MOD_ID, category, name, (Integer) value, isDominant, types);
+		} else if (value instanceof Vec3i) {
+			return AlleleManager.alleleFactory.createArea(Constants.MOD_ID, category, name, (Vec3i) value, isDominant, types);
+		} else if (value instanceof EnumTolerance) {
+			IAllele alleleTolerance = new AlleleTolerance(Constants.MOD_ID, category, name, (EnumTolerance) value, isDominant);
+			AlleleManager.alleleRegistry.registerAllele(alleleTolerance, types);
+			return alleleTolerance;
+		} else if (value instanceof IFlowerProvider) {
+			return AlleleManager.alleleFactory.createFlowers(Constants.MOD_ID, category, name, (IFlowerProvider) value, isDominant, types);
+		}
+		throw new IllegalArgumentException("Could not create an allele for category: " + category + " and value " + value);
+	}
+
+	private static IClassification createBranch() {
+		IClassification hymnoptera = AlleleManager.alleleRegistry.createAndRegisterClassification(EnumClassLevel.ORDER, "hymnoptera", "Hymnoptera");
+		AlleleManager.alleleRegistry.getClassification("class.insecta").addMemberGroup(hymnoptera);
+
+		IClassification apidae = AlleleManager.alleleRegistry.createAndRegisterClassification(EnumClassLevel.FAMILY, "apidae", "Apidae");
+		hymnoptera.addMemberGroup(apidae);
+
+		IClassification branch = BeeManager.beeFactory.createBranch("benchmark", "Benchmark");
+		apidae.addMemberGroup(branch);
+		return branch;
+	}
+
+	public BenchmarkWorld getWorld() {
+		return world;
+	}
+
+	public BeeRoot getBeeRoot() {
+		return beeRoot;
+	}
+
+	/**
+	 * @return A housing at the origin of the world, with a normal climate and without modifiers.
+	 */
+	public IBeeHousing getHousing() {
+		return housing;
+	}
+
+	public IAlleleBeeSpecies getSpecies(int index) {
+		return species.get(index);
+	}
+
+	public IAllele[] getTemplate(int index) {
+		IAllele[] template = templates.get(index);
+		return Arrays.copyOf(template, template.length);
+	}
+
+	/**
+	 * @return A genome with the alleles of one random species as active and of another as inactive alleles.
+	 */
+	public IBeeGenome createGenome(Random random) {
+		IAllele[] templateActive = templates.get(random.nextInt(SPECIES_COUNT));
+		IAllele[] templateInactive = templates.get(random.nextInt(SPECIES_COUNT));
+		return beeRoot.templateAsGenome(templateActive, templateInactive);
+	}
+
+	/**
+	 * @return A queen with a random genome, mated with a drone with a random genome.
+	 */
+	public IBee createMatedQueen(Random random) {
+		IBee queen = beeRoot.getBee(createGenome(random));
+		queen.mate(beeRoot.getBee(createGenome(random)));
+		return queen;
+	}
+
+	/**
+	 * Creates the stack like {@link BeeRoot#getMemberStack}, but with the unregistered bee items of this setup.
+	 */
+	public ItemStack createStack(IBee bee, EnumBeeType beeType) {
+		NBTTagCompound nbttagcompound = new NBTTagCompound();
+		bee.writeToNBT(nbttagcompound);
+
+		ItemStack beeStack = new ItemStack(beeItems.get(beeType));
+		beeStack.setTagCompound(nbttagcompound);
+		return beeStack;
+	}
+
+	/**
+	 * The default template of the real bee root belongs to the forest bee, which can't be created without the items
+	 * of the mod. The real bee root also compares stacks with the registered bee items, this one reads the type of the
+	 * unregistered bee items of this setup instead.
+	 */
+	private static class BenchmarkBeeRoot extends BeeRoot {
+		private final IAllele[] defaultTemplate;
+
+		public BenchmarkBeeRoot(IAllele[] defaultTemplate) {
+			this.defaultTemplate = defaultTemplate;
+		}
+
+		@Override
+		public IAllele[] getDefaultTemplate() {
+			return Arrays.copyOf(defaultTemplate, defaultTemplate.length);
+		}
+
+		@Nullable
+		@Override
+		public EnumBeeType getType(ItemStack stack) {
+			Item item = stack.getItem();
+			if (item instanceof ItemBeeGE) {
+				return ((ItemBeeGE) item).getType();
+			}
+			return null;
+		}
+	}
+
+	private static class BenchmarkBeeHousing implements IBeeHousing {
+		private final World world;
+
+		public BenchmarkBeeHousing(World world) {
+			this.world = world;
+		}
+
+		@Override
+		public Iterable<IBeeModifier> getBeeModifiers() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public Iterable<IBeeListener> getBeeListeners() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public IBeeHousingInventory getBeeInventory() {
+			return FakeBeeHousingInventory.instance;
+		}
+
+		@Override
+		public IBeekeepingLogic getBeekeepingLogic() {
+			return FakeBeekeepingLogic.instance;
+		}
+
+		@Override
+		public int getBlockLightValue() {
+			return 15;
+		}
+
+		@Override
+		public boolean canBlockSeeTheSky() {
+			return true;
+		}
+
+		@Override
+		public boolean isRaining() {
+			return false;
+		}
+
+		@Nullable
+		@Override
+		public GameProfile getOwner() {
+			return null;
+		}
+
+		@Override
+		public Vec3d getBeeFXCoordinates() {
+			return new Vec3d(getCoordinates());
+		}
+
+		@Override
+		public IErrorLogic getErrorLogic() {
+			return FakeErrorLogic.instance;
+		}
+
+		@Override
+		public Biome getBiome() {
+			return Biomes.PLAINS;
+		}
+
+		@Override
+		public EnumTemperature getTemperature() {
+			return EnumTemperature.NORMAL;
+		}
+
+		@Override
+		public EnumHumidity getHumidity() {
+			return EnumHumidity.NORMAL;
+		}
+
+		@Override
+		public BlockPos getCoordinates() {
+			return BlockPos.ORIGIN;
+		}
+
+		@Override
+		public World getWorldObj() {
+			return world;
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.benchmark;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.GameType;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProviderSurface;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.EmptyChunk;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.storage.MapStorage;
+import net.minecraft.world.storage.WorldInfo;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+/**
+ * A server world without chunks, save handler or players, for benchmarks that run without the game.
+ * <p>
+ * The blocks and tile entities are kept in maps by their packed position. All chunks count as loaded. Block changes
+ * don't notify neighbours, but a tile entity is removed and invalidated when the block at its position changes.
+ */
+public class BenchmarkWorld extends World {
+	private final Long2ObjectMap<IBlockState> blockStates = new Long2ObjectOpenHashMap<>();
+	private final Long2ObjectMap<TileEntity> tileEntities = new Long2ObjectOpenHashMap<>();
+
+	public BenchmarkWorld(long seed) {
+		super(null, createWorldInfo(seed), new WorldProviderSurface(), new Profiler(), false);
+		this.chunkProvider = createChunkProvider();
+		this.mapStorage = new MapStorage(null);
+		this.rand.setSeed(seed);
+	}
+
+	private static WorldInfo createWorldInfo(long seed) {
+		Bootstrap.register();
+		return new WorldInfo(new WorldSettings(seed, GameType.SURVIVAL, false, false, WorldType.FLAT), "benchmark");
+	}
+
+	/**
+	 * Removes all blocks and tile entities, without invalidating the tile entities.
+	 */
+	public void clear() {
+		blockStates.clear();
+		tileEntities.clear();
+	}
+
+	@Override
+	protected IChunkProvider createChunkProvider() {
+		return new ChunkProvider();
+	}
+
+	@Override
+	protected boolean isChunkLoaded(int x, int z, boolean allowEmpty) {
+		return true;
+	}
+
+	@Override
+	public IBlockState getBlockState(BlockPos pos) {
+		IBlockState blockState = blockStates.get(pos.toLong());
+		return blockState != null ? blockState : Blocks.AIR.getDefaultState();
+	}
+
+	@Override
+	public boolean setBlockState(BlockPos pos, IBlockState newState, int flags) {
+		IBlockState oldState = getBlockState(pos);
+		if (oldState == newState) {
+			return false;
+		}
+
+		if (newState.getBlock() == Blocks.AIR) {
+			blockStates.remove(pos.toLong());
+		} else {
+			blockStates.put(pos.toLong(), newState);
+		}
+
+		if (oldState.getBlock() != newState.getBlock()) {
+			removeTileEntity(pos);
+		}
+		return true;
+	}
+
+	@Nullable
+	@Override
+	public TileEntity getTileEntity(BlockPos pos) {
+		return tileEntities.get(pos.toLong());
+	}
+
+	@Override
+	public void setTileEntity(BlockPos pos, @Nullable TileEntity tileEntity) {
+		removeTileEntity(pos);
+		if (tileEntity == null) {
+			return;
+		}
+
+		pos = pos.toImmutable();
+		tileEntity.setWorld(this);
+		tileEntity.setPos(pos);
+		tileEntities.put(pos.toLong(), tileEntity);
+		tileEntity.validate();
+	}
+
+	@Override
+	public void removeTileEntity(BlockPos pos) {
+		TileEntity tileEntity = tileEntities.remove(pos.toLong());
+		if (tileEntity != null) {
+			tileEntity.invalidate();
+		}
+	}
+
+	private class ChunkProvider implements IChunkProvider {
+		private final Long2ObjectMap<Chunk> chunks = new Long2ObjectOpenHashMap<>();
+
+		@Override
+		public Chunk getLoadedChunk(int x, int z) {
+			return provideChunk(x, z);
+		}
+
+		@Override
+		public Chunk provideChunk(int x, int z) {
+			long key = ChunkPos.asLong(x, z);
+			Chunk chunk = chunks.get(key);
+			if (chunk == null) {
+				chunk = new EmptyChunk(BenchmarkWorld.this, x, z);
+				chunks.put(key, chunk);
+			}
+			return chunk;
+		}
+
+		@Override
+		public boolean tick() {
+			return false;
+		}
+
+		@Override
+		public String makeString() {
+			return "BenchmarkChunkProvider: " + chunks.size();
+		}
+
+		@Override
+		public boolean isChunkGeneratedAt(int x, int z) {
+			return true;
+		}
+	}
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forestry.api.genetics.IChromosome;
+import forestry.apiculture.genetics.BenchmarkBees;
+
+/**
+ * Inherits the chromosomes of random bee genomes, like every offspring does for each of its chromosomes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChromosomeBenchmark {
+	private static final int PAIR_COUNT = 1024;
+
+	private final IChromosome[] parents1 = new IChromosome[PAIR_COUNT];
+	private final IChromosome[] parents2 = new IChromosome[PAIR_COUNT];
+	private final Random random = new Random(1);
+	private int index;
+
+	@Setup
+	public void setup() {
+		BenchmarkBees bees = BenchmarkBees.getInstance();
+		for (int i = 0; i < PAIR_COUNT; i++) {
+			IChromosome[] chromosomes1 = bees.createGenome(random).getChromosomes();
+			IChromosome[] chromosomes2 = bees.createGenome(random).getChromosomes();
+			int chromosome = random.nextInt(chromosomes1.length);
+			parents1[i] = chromosomes1[chromosome];
+			parents2[i] = chromosomes2[chromosome];
+		}
+	}
+
+	@Benchmark
+	public IChromosome inheritChromosome() {
+		index = (index + 1) & (PAIR_COUNT - 1);
+		return Chromosome.inheritChromosome(random, parents1[index], parents2[index]);
+	}
+}
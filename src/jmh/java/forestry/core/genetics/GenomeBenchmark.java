@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+import forestry.api.apiculture.IBeeGenome;
+import forestry.api.genetics.IChromosome;
+import forestry.apiculture.genetics.BeeGenome;
+import forestry.apiculture.genetics.BenchmarkBees;
+
+/**
+ * Reads and writes bee genomes in the legacy nbt format.
+ * <p>
+ * The cached decode reads the same tags over and over, like the tags of stacks that are looked at every tick. The
+ * uncached decode reads the chromosomes of a tag without the {@link GenomeCache}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenomeBenchmark {
+	private static final int GENOME_COUNT = 256;
+
+	private final IBeeGenome[] genomes = new IBeeGenome[GENOME_COUNT];
+	private final NBTTagCompound[] genomeTags = new NBTTagCompound[GENOME_COUNT];
+	private BenchmarkBees bees;
+	private int index;
+
+	@Setup
+	public void setup() {
+		bees = BenchmarkBees.getInstance();
+		Random random = new Random(1);
+		for (int i = 0; i < GENOME_COUNT; i++) {
+			genomes[i] = bees.createGenome(random);
+			genomeTags[i] = genomes[i].writeToNBT(new NBTTagCompound());
+		}
+		GenomeCache.clear();
+	}
+
+	private int next() {
+		index = (index + 1) & (GENOME_COUNT - 1);
+		return index;
+	}
+
+	@Benchmark
+	public IBeeGenome decodeCached() {
+		return BeeGenome.fromNBT(genomeTags[next()]);
+	}
+
+	@Benchmark
+	public IChromosome[] decodeUncached() {
+		return Genome.getChromosomes(genomeTags[next()], bees.getBeeRoot());
+	}
+
+	@Benchmark
+	public NBTTagCompound encode() {
+		return genomes[next()].writeToNBT(new NBTTagCompound());
+	}
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forestry.api.apiculture.IAlleleBeeSpecies;
+import forestry.api.genetics.IMutation;
+import forestry.apiculture.genetics.BenchmarkBees;
+
+/**
+ * Looks up the mutations of the generated bee species, for one species like the alyzer and for a pair of species like
+ * the breeding of a queen.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpeciesRootBenchmark {
+	private static final int PAIR_COUNT = 256;
+
+	private final IAlleleBeeSpecies[] species0 = new IAlleleBeeSpecies[PAIR_COUNT];
+	private final IAlleleBeeSpecies[] species1 = new IAlleleBeeSpecies[PAIR_COUNT];
+	private SpeciesRoot speciesRoot;
+	private int index;
+
+	@Setup
+	public void setup() {
+		BenchmarkBees bees = BenchmarkBees.getInstance();
+		speciesRoot = bees.getBeeRoot();
+		speciesRoot.rebuildMutationIndex();
+
+		Random random = new Random(1);
+		for (int i = 0; i < PAIR_COUNT; i++) {
+			species0[i] = bees.getSpecies(random.nextInt(BenchmarkBees.SPECIES_COUNT));
+			species1[i] = bees.getSpecies(random.nextInt(BenchmarkBees.SPECIES_COUNT));
+		}
+	}
+
+	private int next() {
+		index = (index + 1) & (PAIR_COUNT - 1);
+		return index;
+	}
+
+	@Benchmark
+	public List<IMutation> getCombinations() {
+		return speciesRoot.getCombinations(species0[next()]);
+	}
+
+	@Benchmark
+	public List<IMutation> getCombinationsOfPair() {
+		int i = next();
+		return speciesRoot.getCombinations(species0[i], species1[i], false);
+	}
+}
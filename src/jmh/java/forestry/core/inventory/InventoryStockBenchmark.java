@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.inventory;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.block.BlockPlanks;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.inventory.InventoryBasic;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.NonNullList;
+
+import net.minecraftforge.oredict.OreDictionary;
+
+import forestry.core.utils.InventoryUtil;
+import forestry.core.utils.ItemStackUtil;
+
+/**
+ * Checks if the 18 resource slots of a carpenter contain the sets of a recipe with ore dictionary ingredients, like the
+ * carpenter does every few ticks.
+ * <p>
+ * {@code condensed} condenses all resource stacks for every check, like the carpenter did before it used an
+ * {@link InventoryStock}. {@code stock} checks an unchanged inventory with the stock. {@code stockChangedSlot}
+ * changes the size of one stack in place before every check, like a pipe that inserts an item.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryStockBenchmark {
+	private static final int SLOT_COUNT = 18;
+
+	private final NonNullList<ItemStack> set = NonNullList.create();
+	private final NonNullList<String> oreDicts = NonNullList.create();
+	private InventoryBasic inventory;
+	private InventoryStock stock;
+	private boolean grow;
+
+	@Setup
+	public void setup() {
+		Bootstrap.register();
+		OreDictionary.registerOre("plankWood", new ItemStack(Blocks.PLANKS, 1, OreDictionary.WILDCARD_VALUE));
+		OreDictionary.registerOre("stickWood", Items.STICK);
+
+		// a frame of planks and sticks around an empty center
+		for (int i = 0; i < 9; i++) {
+			if (i == 4) {
+				set.add(ItemStack.EMPTY);
+				oreDicts.add("");
+			} else if (i % 2 == 0) {
+				set.add(new ItemStack(Blocks.PLANKS));
+				oreDicts.add("plankWood");
+			} else {
+				set.add(new ItemStack(Items.STICK));
+				oreDicts.add("stickWood");
+			}
+		}
+
+		inventory = new InventoryBasic("resources", false, SLOT_COUNT);
+		inventory.setInventorySlotContents(0, new ItemStack(Blocks.PLANKS, 32, BlockPlanks.EnumType.SPRUCE.getMetadata()));
+		inventory.setInventorySlotContents(1, new ItemStack(Blocks.PLANKS, 16, BlockPlanks.EnumType.BIRCH.getMetadata()));
+		inventory.setInventorySlotContents(2, new ItemStack(Items.STICK, 64));
+		inventory.setInventorySlotContents(3, new ItemStack(Items.STICK, 12));
+		inventory.setInventorySlotContents(4, new ItemStack(Blocks.COBBLESTONE, 64));
+		inventory.setInventorySlotContents(5, new ItemStack(Items.IRON_INGOT, 24));
+		inventory.setInventorySlotContents(6, new ItemStack(Items.REDSTONE, 40));
+		inventory.setInventorySlotContents(7, new ItemStack(Blocks.GLASS, 8));
+		inventory.setInventorySlotContents(8, new ItemStack(Blocks.LOG, 20, BlockPlanks.EnumType.OAK.getMetadata()));
+		stock = new InventoryStock(inventory);
+	}
+
+	@Benchmark
+	public int condensed() {
+		return ItemStackUtil.containsSets(set, InventoryUtil.getStacks(inventory), oreDicts, false);
+	}
+
+	@Benchmark
+	public int stock() {
+		return stock.containsSets(set, oreDicts, false);
+	}
+
+	@Benchmark
+	public int stockChangedSlot() {
+		ItemStack planks = inventory.getStackInSlot(0);
+		planks.setCount(grow ? planks.getCount() + 1 : planks.getCount() - 1);
+		grow = !grow;
+		return stock.containsSets(set, oreDicts, false);
+	}
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.multiblock;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import forestry.api.core.EnumHumidity;
+import forestry.api.core.EnumTemperature;
+import forestry.api.multiblock.IMultiblockComponent;
+import forestry.core.network.PacketBufferForestry;
+
+/**
+ * A rectangular controller that accepts every part, so that only the bookkeeping of the multiblock system is measured.
+ */
+public class BenchmarkMultiblockController extends RectangularMultiblockControllerBase {
+
+	public BenchmarkMultiblockController(World world) {
+		super(world, BenchmarkMultiblockSizeLimits.instance);
+	}
+
+	@Override
+	protected void isGoodForExteriorLevel(IMultiblockComponent part, int level) {
+	}
+
+	@Override
+	protected void isGoodForInterior(IMultiblockComponent part) {
+	}
+
+	@Override
+	protected void onAttachedPartWithMultiblockData(IMultiblockComponent part, NBTTagCompound data) {
+	}
+
+	@Override
+	protected void onBlockAdded(IMultiblockComponent newPart) {
+	}
+
+	@Override
+	protected void onBlockRemoved(IMultiblockComponent oldPart) {
+	}
+
+	@Override
+	protected void onAssimilate(IMultiblockControllerInternal assimilated) {
+	}
+
+	@Override
+	public void onAssimilated(IMultiblockControllerInternal assimilator) {
+	}
+
+	@Override
+	protected boolean updateServer(int tickCount) {
+		return false;
+	}
+
+	@Override
+	protected void updateClient(int tickCount) {
+	}
+
+	@Override
+	public void formatDescriptionPacket(NBTTagCompound data) {
+	}
+
+	@Override
+	public void decodeDescriptionPacket(NBTTagCompound data) {
+	}
+
+	@Override
+	public String getUnlocalizedType() {
+		return "for.multiblock.benchmark.type";
+	}
+
+	@Override
+	public BlockPos getCoordinates() {
+		return getCenterCoord();
+	}
+
+	@Override
+	public EnumTemperature getTemperature() {
+		return EnumTemperature.NORMAL;
+	}
+
+	@Override
+	public EnumHumidity getHumidity() {
+		return EnumHumidity.NORMAL;
+	}
+
+	@Override
+	public float getExactTemperature() {
+		return 0.8f;
+	}
+
+	@Override
+	public float getExactHumidity() {
+		return 0.4f;
+	}
+
+	@Override
+	public void writeGuiData(PacketBufferForestry data) {
+	}
+
+	@Override
+	public void readGuiData(PacketBufferForestry data) {
+	}
+}
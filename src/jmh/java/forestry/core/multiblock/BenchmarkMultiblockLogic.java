@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.multiblock;
+
+import net.minecraft.world.World;
+
+public class BenchmarkMultiblockLogic extends MultiblockLogic<BenchmarkMultiblockController> {
+	public BenchmarkMultiblockLogic() {
+		super(BenchmarkMultiblockController.class);
+	}
+
+	@Override
+	public BenchmarkMultiblockController getController() {
+		return controller;
+	}
+
+	@Override
+	public BenchmarkMultiblockController createNewController(World world) {
+		return new BenchmarkMultiblockController(world);
+	}
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.multiblock;
+
+/**
+ * A solid machine of 7x7 blocks and 5 layers, the size of the largest alvearies that players build.
+ */
+class BenchmarkMultiblockSizeLimits implements IMultiblockSizeLimits {
+
+	public static final int X_SIZE = 7;
+	public static final int Y_SIZE = 5;
+	public static final int Z_SIZE = 7;
+
+	public static final BenchmarkMultiblockSizeLimits instance = new BenchmarkMultiblockSizeLimits();
+
+	private BenchmarkMultiblockSizeLimits() {
+
+	}
+
+	@Override
+	public int getMinimumNumberOfBlocksForAssembledMachine() {
+		return X_SIZE * Y_SIZE * Z_SIZE;
+	}
+
+	@Override
+	public int getMaximumXSize() {
+		return X_SIZE;
+	}
+
+	@Override
+	public int getMaximumZSize() {
+		return Z_SIZE;
+	}
+
+	@Override
+	public int getMaximumYSize() {
+		return Y_SIZE;
+	}
+
+	@Override
+	public int getMinimumXSize() {
+		return X_SIZE;
+	}
+
+	@Override
+	public int getMinimumYSize() {
+		return Y_SIZE;
+	}
+
+	@Override
+	public int getMinimumZSize() {
+		return Z_SIZE;
+	}
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.multiblock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.util.math.BlockPos;
+
+import forestry.api.core.ForestryAPI;
+import forestry.core.benchmark.BenchmarkWorld;
+import forestry.core.errors.ErrorStateRegistry;
+
+/**
+ * Breaks an assembled machine of 7x7 blocks and 5 layers block by block, with a multiblock tick after every block like in a world.
+ * <p>
+ * {@code top} breaks the machine layer by layer from the top, so no removal can split the remaining parts.
+ * {@code random} breaks the blocks in a shuffled order, which splits the machine into more and more pieces.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiblockBreakBenchmark {
+	private static final BlockPos ORIGIN = new BlockPos(0, 64, 0);
+
+	@Param({"top", "random"})
+	public String order;
+
+	private final List<BlockPos> positions = new ArrayList<>();
+	private BenchmarkWorld world;
+
+	@Setup
+	public void setup() {
+		world = new BenchmarkWorld(1);
+		ForestryAPI.errorStateRegistry = new ErrorStateRegistry();
+
+		for (int y = BenchmarkMultiblockSizeLimits.Y_SIZE - 1; y >= 0; y--) {
+			for (int z = 0; z < BenchmarkMultiblockSizeLimits.Z_SIZE; z++) {
+				for (int x = 0; x < BenchmarkMultiblockSizeLimits.X_SIZE; x++) {
+					positions.add(ORIGIN.add(x, y, z));
+				}
+			}
+		}
+		if (order.equals("random")) {
+			Collections.shuffle(positions, new Random(1));
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void assemble() {
+		for (BlockPos pos : positions) {
+			world.setTileEntity(pos, new TileBenchmarkMultiblock());
+		}
+		MultiblockRegistry.tickStart(world);
+	}
+
+	@TearDown(Level.Invocation)
+	public void unload() {
+		MultiblockRegistry.onWorldUnloaded(world);
+		world.clear();
+	}
+
+	@Benchmark
+	public void breakBlocks() {
+		for (BlockPos pos : positions) {
+			world.removeTileEntity(pos);
+			MultiblockRegistry.tickStart(world);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.multiblock;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.util.math.BlockPos;
+
+import com.mojang.authlib.GameProfile;
+
+import forestry.api.multiblock.IMultiblockController;
+import forestry.api.multiblock.MultiblockTileEntityBase;
+
+public class TileBenchmarkMultiblock extends MultiblockTileEntityBase<BenchmarkMultiblockLogic> {
+	public TileBenchmarkMultiblock() {
+		super(new BenchmarkMultiblockLogic());
+	}
+
+	@Override
+	public void onMachineAssembled(IMultiblockController multiblockController, BlockPos minCoord, BlockPos maxCoord) {
+	}
+
+	@Override
+	public void onMachineBroken() {
+	}
+
+	@Nullable
+	@Override
+	public GameProfile getOwner() {
+		return null;
+	}
+}
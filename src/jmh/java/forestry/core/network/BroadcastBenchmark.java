@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.network;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.minecraft.util.math.BlockPos;
+
+import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
+
+/**
+ * Prepares the packets of one tile update for every watching player.
+ * <p>
+ * {@code broadcast} encodes the packet once and copies it for every player, like NetworkUtil.sendNetworkPacket.
+ * {@code encodePerPlayer} encodes the packet again for every player, like sending it to each player on its own.
+ * The {@code encodes} counter divided by the operation count is the number of encodes per update.
+ * The send through the network channel needs connected players and is not measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BroadcastBenchmark {
+	private static final BlockPos TILE_POS = new BlockPos(-213, 72, 1045);
+
+	@Param({"1", "10", "80"})
+	public int players;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class EncodeCounter {
+		public long encodes;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			encodes = 0;
+		}
+	}
+
+	@Benchmark
+	public void broadcast(EncodeCounter counter, Blackhole blackhole) {
+		FMLProxyPacket packet = new PacketCountingUpdate(counter, TILE_POS).getPacket();
+		for (int i = 0; i < players; i++) {
+			blackhole.consume(PacketHandler.copyPacket(packet));
+		}
+	}
+
+	@Benchmark
+	public void encodePerPlayer(EncodeCounter counter, Blackhole blackhole) {
+		for (int i = 0; i < players; i++) {
+			blackhole.consume(new PacketCountingUpdate(counter, TILE_POS).getPacket());
+		}
+	}
+
+	/**
+	 * Writes the same data as an active update and counts how often it was encoded.
+	 */
+	private static class PacketCountingUpdate extends ForestryPacket implements IForestryPacketClient {
+		private final EncodeCounter counter;
+		private final BlockPos pos;
+
+		public PacketCountingUpdate(EncodeCounter counter, BlockPos pos) {
+			this.counter = counter;
+			this.pos = pos;
+		}
+
+		@Override
+		public PacketIdClient getPacketId() {
+			return PacketIdClient.TILE_FORESTRY_ACTIVE;
+		}
+
+		@Override
+		protected void writeData(PacketBufferForestry data) {
+			counter.encodes++;
+			data.writeBlockPos(pos);
+			data.writeBoolean(true);
+		}
+	}
+}
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.farming.logic;
+
+import javax.annotation.Nullable;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.block.BlockLeaves;
+import net.minecraft.block.BlockLog;
+import net.minecraft.block.BlockOldLeaf;
+import net.minecraft.block.BlockOldLog;
+import net.minecraft.block.BlockPlanks;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.gen.feature.WorldGenerator;
+
+import com.mojang.authlib.GameProfile;
+
+import forestry.api.arboriculture.EnumFruitFamily;
+import forestry.api.arboriculture.EnumLeafType;
+import forestry.api.arboriculture.EnumTreeChromosome;
+import forestry.api.arboriculture.EnumVanillaWoodType;
+import forestry.api.arboriculture.ILeafSpriteProvider;
+import forestry.api.arboriculture.ITree;
+import forestry.api.arboriculture.ITreeGenerator;
+import forestry.api.arboriculture.ITreeGenome;
+import forestry.api.arboriculture.TreeManager;
+import forestry.api.farming.FarmDirection;
+import forestry.api.farming.ICrop;
+import forestry.api.farming.IFarmLogic;
+import forestry.api.genetics.AlleleManager;
+import forestry.api.genetics.IAllele;
+import forestry.api.world.ITreeGenData;
+import forestry.arboriculture.FruitProviderNone;
+import forestry.arboriculture.genetics.BranchTrees;
+import forestry.arboriculture.genetics.TreeRoot;
+import forestry.arboriculture.genetics.WoodProviderVanilla;
+import forestry.arboriculture.genetics.alleles.AlleleFruit;
+import forestry.arboriculture.genetics.alleles.AlleleLeafEffectNone;
+import forestry.arboriculture.genetics.alleles.AlleleTreeSpecies;
+import forestry.arboriculture.models.ModelProviderGermlingVanilla;
+import forestry.arboriculture.models.SpriteProviderLeaves;
+import forestry.arboriculture.worldgen.TreeBlockTypeLeaf;
+import forestry.arboriculture.worldgen.TreeBlockTypeLog;
+import forestry.arboriculture.worldgen.WorldGenSequoia;
+import forestry.core.benchmark.BenchmarkWorld;
+import forestry.core.config.Constants;
+import forestry.core.genetics.alleles.AlleleFactory;
+import forestry.core.genetics.alleles.AlleleRegistry;
+import forestry.core.genetics.alleles.EnumAllele;
+import forestry.core.genetics.alleles.IAlleleValue;
+import forestry.core.utils.TopDownBlockPosComparator;
+import forestry.farming.FarmRegistry;
+import forestry.farming.logic.farmables.FarmableVanillaSapling;
+import forestry.farming.multiblock.FakeFarmController;
+
+/**
+ * Lets an arboretum find the logs of a generated Sequoia, like it does before it chops down a tree.
+ * <p>
+ * The tree has the genome of the Sequoia and is grown with the trunk and leaves of the Sequoia generator, but it is
+ * built from vanilla spruce logs and leaves. The logs are not chopped, so every harvest finds the whole tree.
+ * {@code search} forgets the trees of the world first and searches the tree block by block, {@code cached} uses the
+ * blocks that the first harvest found.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FarmLogicArborealBenchmark {
+	// the average base height of a Sequoia, before the height of its genome is applied
+	private static final int SEQUOIA_BASE_HEIGHT = 22;
+	private static final BlockPos TREE_POS = new BlockPos(0, 64, 0);
+
+	private World world;
+	private IFarmLogic logic;
+
+	@Setup
+	public void setup() {
+		world = new BenchmarkWorld(1);
+
+		FarmRegistry registry = FarmRegistry.getInstance();
+		registry.registerFarmables(ForestryFarmIdentifier.ARBOREAL, new FarmableVanillaSapling());
+		logic = registry.registerLogic(ForestryFarmIdentifier.ARBOREAL, FarmLogicArboreal::new).getLogic(false);
+
+		ITree tree = TreeManager.treeRoot.templateAsIndividual(createSequoiaTemplate());
+		new BenchmarkSequoia(tree).generateTree(world, new Random(1), TREE_POS);
+	}
+
+	/**
+	 * Creates the template of the Sequoia like TreeDefinition does, with the alleles that the Sequoia and the default
+	 * template of the tree branches use.
+	 */
+	private static IAllele[] createSequoiaTemplate() {
+		AlleleManager.alleleRegistry = new AlleleRegistry();
+		AlleleManager.alleleFactory = new AlleleFactory();
+		AlleleManager.alleleRegistry.initialize();
+
+		TreeRoot treeRoot = new TreeRoot();
+		TreeManager.treeRoot = treeRoot;
+		AlleleManager.alleleRegistry.registerSpeciesRoot(treeRoot);
+
+		ILeafSpriteProvider leafSprites = new SpriteProviderLeaves(EnumLeafType.CONIFERS, new Color(0x418e71), new Color(0x569896));
+		IAllele species = new AlleleTreeSpecies(Constants.MOD_ID + ".treeSequoia", "for.trees.species.coastSequoia", "Sengir", "for.description.treeSequoia", false,
+			new BranchTrees("sequoia", "Sequoia"), "sempervirens", Constants.MOD_ID, leafSprites, new ModelProviderGermlingVanilla(EnumVanillaWoodType.SPRUCE, leafSprites),
+			new WoodProviderVanilla(EnumVanillaWoodType.SPRUCE), new SpruceSequoiaGenerator(), null).build();
+
+		IAllele fruit = new AlleleFruit("none", new FruitProviderNone("for.fruits.none", EnumFruitFamily.NONE));
+		AlleleManager.alleleRegistry.registerAllele(fruit, EnumTreeChromosome.FRUITS);
+		IAllele effect = new AlleleLeafEffectNone();
+		AlleleManager.alleleRegistry.registerAllele(effect, EnumTreeChromosome.EFFECT);
+
+		IAllele[] template = new IAllele[EnumTreeChromosome.values().length];
+		template[EnumTreeChromosome.SPECIES.ordinal()] = species;
+		template[EnumTreeChromosome.FRUITS.ordinal()] = fruit;
+		template[EnumTreeChromosome.EFFECT.ordinal()] = effect;
+		template[EnumTreeChromosome.HEIGHT.ordinal()] = createFloat("height", EnumAllele.Height.LARGEST, EnumTreeChromosome.HEIGHT);
+		template[EnumTreeChromosome.FERTILITY.ordinal()] = createFloat("saplings", EnumAllele.Saplings.LOWER, EnumTreeChromosome.FERTILITY);
+		template[EnumTreeChromosome.YIELD.ordinal()] = createFloat("yield", EnumAllele.Yield.LOWEST, EnumTreeChromosome.YIELD);
+		template[EnumTreeChromosome.SAPPINESS.ordinal()] = createFloat("sappiness", EnumAllele.Sappiness.LOWER, EnumTreeChromosome.SAPPINESS);
+		template[EnumTreeChromosome.MATURATION.ordinal()] = AlleleManager.alleleFactory.createInteger(Constants.MOD_ID, "maturation", "slower",
+			EnumAllele.Maturation.SLOWER.getValue(), EnumAllele.Maturation.SLOWER.isDominant(), EnumTreeChromosome.MATURATION);
+		template[EnumTreeChromosome.GIRTH.ordinal()] = AlleleManager.alleleFactory.createInteger(Constants.MOD_ID, "i", "3d", 3, true, EnumTreeChromosome.GIRTH);
+		template[EnumTreeChromosome.FIREPROOF.ordinal()] = AlleleManager.alleleFactory.createBoolean(Constants.MOD_ID, "fireproof",
+			EnumAllele.Fireproof.TRUE.getValue(), EnumAllele.Fireproof.TRUE.isDominant(), EnumTreeChromosome.FIREPROOF);
+		return template;
+	}
+
+	private static IAllele createFloat(String category, IAlleleValue<Float> value, EnumTreeChromosome type) {
+		return AlleleManager.alleleFactory.createFloat(Constants.MOD_ID, category, value.toString().toLowerCase(Locale.ENGLISH), value.getValue(), value.isDominant(), type);
+	}
+
+	@Benchmark
+	public Collection<ICrop> search() {
+		TreeHarvestCache.onWorldUnloaded(world);
+		return harvest();
+	}
+
+	@Benchmark
+	public Collection<ICrop> cached() {
+		return harvest();
+	}
+
+	private Collection<ICrop> harvest() {
+		// the arboretum harvests the block above the farmland
+		return logic.harvest(world, FakeFarmController.instance, TREE_POS.down(), FarmDirection.NORTH, 1);
+	}
+
+	private static class BenchmarkSequoia extends WorldGenSequoia {
+		public BenchmarkSequoia(ITreeGenData tree) {
+			super(tree);
+			this.height = Math.round(SEQUOIA_BASE_HEIGHT * tree.getHeightModifier());
+			this.girth = tree.getGirth();
+		}
+
+		// skips the sapling growth event and the treekeeping mode of a real world
+		public void generateTree(World world, Random rand, BlockPos startPos) {
+			List<BlockPos> branchEnds = new ArrayList<>(generateTrunk(world, rand, new TreeBlockTypeLog(tree), startPos));
+			branchEnds.sort(TopDownBlockPosComparator.INSTANCE);
+			generateLeaves(world, rand, new TreeBlockTypeLeaf(tree, null, rand), branchEnds, startPos);
+		}
+	}
+
+	/**
+	 * Places vanilla spruce blocks, the logs and leaves of the Sequoia need the blocks of the mod.
+	 */
+	private static class SpruceSequoiaGenerator implements ITreeGenerator {
+		private final IBlockState leaves = Blocks.LEAVES.getDefaultState()
+			.withProperty(BlockOldLeaf.VARIANT, BlockPlanks.EnumType.SPRUCE)
+			.withProperty(BlockLeaves.CHECK_DECAY, false);
+		private final IBlockState log = Blocks.LOG.getDefaultState()
+			.withProperty(BlockOldLog.VARIANT, BlockPlanks.EnumType.SPRUCE);
+
+		@Override
+		public WorldGenerator getWorldGenerator(ITreeGenData tree) {
+			return new BenchmarkSequoia(tree);
+		}
+
+		@Override
+		public boolean setLogBlock(ITreeGenome genome, World world, BlockPos pos, EnumFacing facing) {
+			return world.setBlockState(pos, log.withProperty(BlockLog.LOG_AXIS, BlockLog.EnumAxis.fromFacingAxis(facing.getAxis())));
+		}
+
+		@Override
+		public boolean setLeaves(ITreeGenome genome, World world, @Nullable GameProfile owner, BlockPos pos) {
+			return world.setBlockState(pos, leaves);
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.sorting;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import forestry.api.apiculture.EnumBeeType;
+import forestry.api.core.ILocatable;
+import forestry.api.genetics.AlleleManager;
+import forestry.apiculture.ApicultureFilterRuleType;
+import forestry.apiculture.genetics.BenchmarkBees;
+
+/**
+ * Checks stacks against a genetic filter with a different rule on every side, like the filter does for every stack
+ * that is inserted into it.
+ * <p>
+ * Most stacks are bees, every eighth stack is an apple.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterLogicBenchmark {
+	private static final int STACK_COUNT = 256;
+	private static final EnumBeeType[] BEE_TYPES = {EnumBeeType.DRONE, EnumBeeType.PRINCESS, EnumBeeType.QUEEN};
+
+	private final ItemStack[] stacks = new ItemStack[STACK_COUNT];
+	private FilterLogic logic;
+	private int index;
+
+	@Setup
+	public void setup() {
+		BenchmarkBees bees = BenchmarkBees.getInstance();
+
+		FilterRegistry filterRegistry = new FilterRegistry();
+		AlleleManager.filterRegistry = filterRegistry;
+		DefaultFilterRuleType.init();
+		ApicultureFilterRuleType.init();
+		filterRegistry.init();
+
+		World world = bees.getWorld();
+		logic = new FilterLogic(new ILocatable() {
+			@Override
+			public BlockPos getCoordinates() {
+				return BlockPos.ORIGIN;
+			}
+
+			@Override
+			public World getWorldObj() {
+				return world;
+			}
+		}, (filterLogic, server, player) -> {
+		});
+		logic.setRule(EnumFacing.DOWN, DefaultFilterRuleType.ITEM);
+		logic.setRule(EnumFacing.UP, DefaultFilterRuleType.ANYTHING);
+		logic.setRule(EnumFacing.NORTH, ApicultureFilterRuleType.DRONE);
+		logic.setRule(EnumFacing.SOUTH, ApicultureFilterRuleType.PRINCESS);
+		logic.setRule(EnumFacing.WEST, ApicultureFilterRuleType.QUEEN);
+		logic.setRule(EnumFacing.EAST, ApicultureFilterRuleType.BEE);
+		for (int i = 0; i < 3; i++) {
+			logic.setGenomeFilter(EnumFacing.EAST, i, true, bees.getSpecies(i));
+		}
+
+		Random random = new Random(1);
+		for (int i = 0; i < STACK_COUNT; i++) {
+			if (i % 8 == 0) {
+				stacks[i] = new ItemStack(Items.APPLE);
+			} else {
+				EnumBeeType beeType = BEE_TYPES[random.nextInt(BEE_TYPES.length)];
+				stacks[i] = bees.createStack(bees.getBeeRoot().getBee(bees.createGenome(random)), beeType);
+			}
+		}
+	}
+
+	@Benchmark
+	public int isValid() {
+		index = (index + 1) & (STACK_COUNT - 1);
+		ItemStack stack = stacks[index];
+		int validSides = 0;
+		for (EnumFacing facing : EnumFacing.VALUES) {
+			if (logic.isValid(stack, facing)) {
+				validSides++;
+			}
+		}
+		return validSides;
+	}
+}
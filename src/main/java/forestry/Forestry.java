@@ -38,6 +38,8 @@ import net.minecraftforge.fml.common.registry.GameRegistry;
 import forestry.api.climate.ClimateManager;
 import forestry.api.core.ForestryAPI;
 import forestry.api.core.ForestryEvent;
+import forestry.api.genetics.AlleleManager;
+import forestry.api.genetics.ISpeciesRoot;
 import forestry.core.EventHandlerCore;
 import forestry.core.advancements.AdvancementManager;
 import forestry.core.climate.ClimateFactory;
@@ -48,10 +50,12 @@ import forestry.core.config.Constants;
 import forestry.core.config.GameMode;
 import forestry.core.errors.EnumErrorCode;
 import forestry.core.errors.ErrorStateRegistry;
+import forestry.core.genetics.SpeciesRoot;
 import forestry.core.gui.GuiHandler;
 import forestry.core.multiblock.MultiblockEventHandler;
 import forestry.core.network.PacketHandler;
 import forestry.core.proxy.Proxies;
+import forestry.core.recipes.RecipeUtil;
 import forestry.core.utils.MigrationHelper;
 import forestry.core.worldgen.WorldGenerator;
 import forestry.modules.ForestryModules;
@@ -174,11 +178,19 @@ public class Forestry {
 
 		// Handle IMC messages.
 		ModuleManager.getInternalHandler().processIMCMessages(FMLInterModComms.fetchRuntimeMessages(ForestryAPI.instance));
+
+		// Build the mutation lookup tables once all mutations are registered.
+		for (ISpeciesRoot speciesRoot : AlleleManager.alleleRegistry.getSpeciesRoot().values()) {
+			if (speciesRoot instanceof SpeciesRoot) {
+				((SpeciesRoot) speciesRoot).rebuildMutationIndex();
+			}
+		}
 	}
 
 	@EventHandler
 	public void serverStarting(FMLServerStartingEvent event) {
 		ModuleManager.serverStarting(event.getServer());
+		RecipeUtil.indexCraftingRecipes();
 	}
 
 	@Nullable
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright 2011-2014 SirSengir
+ *
+ * This work (the API) is licensed under the "MIT" License, see LICENSE.txt for details.
+ ******************************************************************************/
+package forestry.api.climate;
+
+/**
+ * A mutable temperature and humidity pair that can be used to calculate with climate states without creating a new
+ * {@link IClimateState} for every step of the calculation.
+ * <p>
+ * Like the climate states the accumulator is absent if one of its values is not a number. Use {@link #toState()} to
+ * create a climate state of the result once the calculation is done.
+ * <p>
+ * Accumulators are not thread safe. Every user should have its own instance and reuse it.
+ */
+public final class ClimateAccumulator {
+	private float temperature;
+	private float humidity;
+
+	public ClimateAccumulator() {
+	}
+
+	public ClimateAccumulator(float temperature, float humidity) {
+		this.temperature = temperature;
+		this.humidity = humidity;
+	}
+
+	public ClimateAccumulator set(float temperature, float humidity) {
+		this.temperature = temperature;
+		this.humidity = humidity;
+		return this;
+	}
+
+	public ClimateAccumulator set(IClimateState state) {
+		return set(state.getTemperature(), state.getHumidity());
+	}
+
+	public ClimateAccumulator reset() {
+		return set(0.0F, 0.0F);
+	}
+
+	public ClimateAccumulator add(float temperature, float humidity) {
+		this.temperature += temperature;
+		this.humidity += humidity;
+		return this;
+	}
+
+	public ClimateAccumulator add(IClimateState state) {
+		return add(state.getTemperature(), state.getHumidity());
+	}
+
+	public ClimateAccumulator subtract(IClimateState state) {
+		return add(-state.getTemperature(), -state.getHumidity());
+	}
+
+	public ClimateAccumulator multiply(double factor) {
+		this.temperature *= factor;
+		this.humidity *= factor;
+		return this;
+	}
+
+	public float getTemperature() {
+		return temperature;
+	}
+
+	public float getHumidity() {
+		return humidity;
+	}
+
+	public float getClimate(ClimateType type) {
+		return type == ClimateType.HUMIDITY ? humidity : temperature;
+	}
+
+	public boolean isPresent() {
+		return !Float.isNaN(temperature) && !Float.isNaN(humidity);
+	}
+
+	/**
+	 * @return A new immutable climate state with the values of this accumulator, or the absent state if it is absent.
+	 */
+	public IClimateState toState() {
+		return ClimateManager.stateHelper.create(temperature, humidity);
+	}
+}
@@ -55,6 +55,18 @@ public interface IFarmable {
 		return false;
 	}
 
+	/**
+	 * Farms that only use farmables which return true here harvest the columns in which the world changed, instead of
+	 * looking at every column on every harvest.
+	 *
+	 * @return true if the crops of this type only become harvestable through block changes that notify the world, or
+	 * post a {@link net.minecraftforge.event.world.BlockEvent.CropGrowEvent.Post} when they grow.
+	 * @since Forestry 5.9.0
+	 */
+	default boolean isGrowthNotified() {
+		return false;
+	}
+
 	/**
 	 * Plants a sapling by manipulating the world. The {@link IFarmLogic} should have verified the given location as valid. Called by the {@link IFarmHousing}
 	 * which handles resources.
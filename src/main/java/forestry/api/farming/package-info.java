@@ -5,7 +5,7 @@
  ******************************************************************************/
 @ParametersAreNonnullByDefault
 @MethodsReturnNonnullByDefault
-@API(apiVersion = "5.8.0", owner = "ForestryAPI|core", provides = "ForestryAPI|farming")
+@API(apiVersion = "5.9.0", owner = "ForestryAPI|core", provides = "ForestryAPI|farming")
 package forestry.api.farming;
 
 import javax.annotation.ParametersAreNonnullByDefault;
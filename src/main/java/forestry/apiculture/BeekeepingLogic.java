@@ -475,10 +475,11 @@ public class BeekeepingLogic implements IBeekeepingLogic {
 		World world = housing.getWorldObj();
 		if (world != null && !world.isRemote) {
 			if (housing instanceof Entity) {
+				// entity updates are not queued, the queue merges updates by position and entities can share one
 				Entity housingEntity = (Entity) this.housing;
 				NetworkUtil.sendNetworkPacket(new PacketBeeLogicActiveEntity(this.housing, housingEntity), housingEntity.getPosition(), world);
 			} else {
-				NetworkUtil.sendNetworkPacket(new PacketBeeLogicActive(housing), housing.getCoordinates(), world);
+				NetworkUtil.queueNetworkPacket(new PacketBeeLogicActive(housing), housing.getCoordinates(), world);
 			}
 		}
 	}
@@ -13,7 +13,6 @@ package forestry.apiculture;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 
 import net.minecraft.block.state.IBlockState;
@@ -23,14 +22,13 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3i;
 import net.minecraft.world.World;
 
-import forestry.api.apiculture.FlowerManager;
 import forestry.api.apiculture.IBee;
 import forestry.api.apiculture.IBeeGenome;
 import forestry.api.apiculture.IBeeHousing;
-import forestry.api.core.IBlockPosPredicate;
 import forestry.api.core.INbtReadable;
 import forestry.api.core.INbtWritable;
 import forestry.api.genetics.IFlowerProvider;
+import forestry.apiculture.flowers.FlowerIndex;
 import forestry.core.utils.TickHelper;
 
 public class HasFlowersCache implements INbtWritable, INbtReadable {
@@ -58,56 +56,51 @@ public class HasFlowersCache implements INbtWritable, INbtReadable {
 	private static class FlowerData {
 		public final String flowerType;
 		public final Vec3i territory;
-		public final IBlockPosPredicate flowerPredicate;
-		public Iterator<BlockPos.MutableBlockPos> areaIterator;
+		/**
+		 * False as long as the {@link FlowerIndex} has not scanned the whole territory yet.
+		 */
+		public boolean complete;
 
-		public FlowerData(IBee queen, IBeeHousing beeHousing) {
+		public FlowerData(IBee queen) {
 			IFlowerProvider flowerProvider = queen.getGenome().getFlowerProvider();
 			this.flowerType = flowerProvider.getFlowerType();
 			this.territory = queen.getGenome().getTerritory();
-			this.flowerPredicate = FlowerManager.flowerRegistry.createAcceptedFlowerPredicate(flowerType);
-			this.areaIterator = FlowerManager.flowerRegistry.getAreaIterator(beeHousing, queen);
-		}
-
-		public void resetIterator(IBee queen, IBeeHousing beeHousing) {
-			this.areaIterator = FlowerManager.flowerRegistry.getAreaIterator(beeHousing, queen);
 		}
 	}
 
 	public void update(IBee queen, IBeeHousing beeHousing) {
 		if (flowerData == null) {
-			this.flowerData = new FlowerData(queen, beeHousing);
+			this.flowerData = new FlowerData(queen);
 			this.flowerCoords.clear();
 			this.flowers.clear();
 		}
-		World world = beeHousing.getWorldObj();
 		tickHelper.onTick();
 
-		if (!flowerCoords.isEmpty() && tickHelper.updateOnInterval(flowerCheckInterval)) {
-			Iterator<BlockPos> iterator = flowerCoords.iterator();
-			while (iterator.hasNext()) {
-				BlockPos flowerPos = iterator.next();
-				if (!flowerData.flowerPredicate.test(world, flowerPos) && world.isBlockLoaded(flowerPos)) {
-					iterator.remove();
-					flowers.clear();
-					needsSync = true;
-				}
-			}
+		if (!flowerData.complete || tickHelper.updateOnInterval(flowerCheckInterval)) {
+			lookForFlowers(flowerData, queen, beeHousing, FlowerIndex.SECTION_SCANS_PER_QUERY);
 		}
+	}
 
-		final int flowerCount = flowerCoords.size();
-		final int ticksPerCheck = 1 + (flowerCount * flowerCount);
-
-		if (tickHelper.updateOnInterval(ticksPerCheck)) {
-			if (flowerData.areaIterator.hasNext()) {
-				BlockPos.MutableBlockPos blockPos = flowerData.areaIterator.next();
-				if (flowerData.flowerPredicate.test(world, blockPos)) {
-					addFlowerPos(blockPos.toImmutable());
-				}
-			} else {
-				flowerData.resetIterator(queen, beeHousing);
+	/**
+	 * Replaces the known flowers with the flowers the {@link FlowerIndex} knows of in the territory.
+	 * Flowers in unloaded chunks are kept until their chunk is loaded again.
+	 */
+	private void lookForFlowers(FlowerData flowerData, IBee queen, IBeeHousing housing, int maxScans) {
+		World world = housing.getWorldObj();
+		List<BlockPos> foundFlowers = new ArrayList<>();
+		flowerData.complete = FlowerIndex.getAcceptedFlowers(housing, queen, flowerData.flowerType, foundFlowers, maxScans);
+		for (BlockPos flowerPos : flowerCoords) {
+			if (!world.isBlockLoaded(flowerPos)) {
+				foundFlowers.add(flowerPos);
 			}
 		}
+
+		if (!foundFlowers.equals(flowerCoords)) {
+			flowerCoords.clear();
+			flowerCoords.addAll(foundFlowers);
+			flowers.clear();
+			needsSync = true;
+		}
 	}
 
 	public boolean hasFlowers() {
@@ -126,7 +119,7 @@ public class HasFlowersCache implements INbtWritable, INbtReadable {
 			String flowerType = genome.getFlowerProvider().getFlowerType();
 			if (!this.flowerData.flowerType.equals(flowerType)
 				|| !this.flowerData.territory.equals(genome.getTerritory())) {
-				flowerData = new FlowerData(queen, housing);
+				flowerData = new FlowerData(queen);
 				flowerCoords.clear();
 				flowers.clear();
 			}
@@ -156,16 +149,7 @@ public class HasFlowersCache implements INbtWritable, INbtReadable {
 
 	public void forceLookForFlowers(IBee queen, IBeeHousing housing) {
 		if (flowerData != null) {
-			flowerCoords.clear();
-			flowers.clear();
-			flowerData.resetIterator(queen, housing);
-			World world = housing.getWorldObj();
-			while (flowerData.areaIterator.hasNext()) {
-				BlockPos.MutableBlockPos blockPos = flowerData.areaIterator.next();
-				if (flowerData.flowerPredicate.test(world, blockPos)) {
-					addFlowerPos(blockPos.toImmutable());
-				}
-			}
+			lookForFlowers(flowerData, queen, housing, FlowerIndex.UNLIMITED_SCANS);
 		}
 	}
 
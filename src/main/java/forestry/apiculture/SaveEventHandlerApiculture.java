@@ -13,6 +13,7 @@ package forestry.apiculture;
 import net.minecraft.world.World;
 
 import forestry.api.apiculture.BeeManager;
+import forestry.apiculture.flowers.FlowerIndex;
 import forestry.core.ISaveEventHandler;
 
 public class SaveEventHandlerApiculture implements ISaveEventHandler {
@@ -20,6 +21,7 @@ public class SaveEventHandlerApiculture implements ISaveEventHandler {
 	@Override
 	public void onWorldLoad(World world) {
 		BeeManager.beeRoot.resetBeekeepingMode();
+		FlowerIndex.onWorldLoad(world);
 	}
 
 	@Override
@@ -28,6 +30,7 @@ public class SaveEventHandlerApiculture implements ISaveEventHandler {
 
 	@Override
 	public void onWorldUnload(World world) {
+		FlowerIndex.onWorldUnload(world);
 	}
 
 }
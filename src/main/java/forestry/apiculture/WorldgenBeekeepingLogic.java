@@ -129,7 +129,7 @@ public class WorldgenBeekeepingLogic implements IBeekeepingLogic {
 	public void syncToClient() {
 		World world = housing.getWorldObj();
 		if (world != null && !world.isRemote) {
-			NetworkUtil.sendNetworkPacket(new PacketBeeLogicActive(housing), housing.getCoordinates(), world);
+			NetworkUtil.queueNetworkPacket(new PacketBeeLogicActive(housing), housing.getCoordinates(), world);
 		}
 	}
 
@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture.flowers;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3i;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import forestry.api.apiculture.BeeManager;
+import forestry.api.apiculture.FlowerManager;
+import forestry.api.apiculture.IBee;
+import forestry.api.apiculture.IBeeHousing;
+import forestry.api.apiculture.IBeeModifier;
+import forestry.api.core.IBlockPosPredicate;
+import forestry.core.utils.WorldEventListenerAdapter;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortIterator;
+import it.unimi.dsi.fastutil.shorts.ShortRBTreeSet;
+import it.unimi.dsi.fastutil.shorts.ShortSortedSet;
+
+/**
+ * Remembers the accepted flowers of every flower type in the loaded chunk sections of a server world.
+ * <p>
+ * A chunk section is scanned for a flower type the first time a bee housing asks for flowers inside of it. After that
+ * the section is kept up to date by the block updates of the world, until its chunk is unloaded. Every section is
+ * scanned again after {@link #SECTION_LIFETIME} ticks, to catch the block changes that were made without a block update.
+ */
+public class FlowerIndex extends WorldEventListenerAdapter {
+	/**
+	 * The count of unscanned sections that a housing may scan per query. The remaining sections are scanned by the
+	 * following queries, so a new housing never scans its whole territory in one tick.
+	 */
+	public static final int SECTION_SCANS_PER_QUERY = 1;
+	public static final int UNLIMITED_SCANS = Integer.MAX_VALUE;
+
+	private static final int SECTION_LIFETIME = 12000;
+	private static final int SECTION_SIZE = 16;
+	private static final int SECTION_COUNT = 16;
+
+	private static final Map<World, FlowerIndex> indices = new HashMap<>();
+
+	private final World world;
+	private final Map<String, FlowerTypeIndex> flowerTypes = new HashMap<>();
+
+	private FlowerIndex(World world) {
+		this.world = world;
+	}
+
+	/* WORLDS */
+	public static void onWorldLoad(World world) {
+		if (!world.isRemote && !indices.containsKey(world)) {
+			FlowerIndex index = new FlowerIndex(world);
+			indices.put(world, index);
+			world.addEventListener(index);
+		}
+	}
+
+	public static void onWorldUnload(World world) {
+		FlowerIndex index = indices.remove(world);
+		if (index != null) {
+			world.removeEventListener(index);
+		}
+	}
+
+	public static void onChunkUnload(World world, int chunkX, int chunkZ) {
+		FlowerIndex index = indices.get(world);
+		if (index != null) {
+			for (FlowerTypeIndex typeIndex : index.flowerTypes.values()) {
+				for (int sectionY = 0; sectionY < SECTION_COUNT; sectionY++) {
+					typeIndex.sections.remove(getSectionKey(chunkX, sectionY, chunkZ));
+				}
+			}
+		}
+	}
+
+	@Nullable
+	public static FlowerIndex getIndex(World world) {
+		return indices.get(world);
+	}
+
+	/* QUERIES */
+
+	/**
+	 * Adds the accepted flowers of the territory of the bee to the list.
+	 *
+	 * @return false if the territory contains loaded sections that were not scanned yet.
+	 */
+	public static boolean getAcceptedFlowers(IBeeHousing housing, IBee bee, String flowerType, List<BlockPos> flowers, int maxScans) {
+		IBeeModifier beeModifier = BeeManager.beeRoot.createBeeHousingModifier(housing);
+		Vec3i area = FlowerRegistry.getArea(bee.getGenome(), beeModifier);
+		BlockPos minPos = housing.getCoordinates().add(-area.getX() / 2, -area.getY() / 2, -area.getZ() / 2);
+		BlockPos maxPos = minPos.add(area);
+
+		FlowerIndex index = getIndex(housing.getWorldObj());
+		if (index == null) {
+			return true;
+		}
+		return index.getAcceptedFlowers(flowerType, minPos, maxPos, flowers, maxScans);
+	}
+
+	/**
+	 * Adds the accepted flowers between the two positions to the list. Sections of unloaded chunks are skipped.
+	 *
+	 * @param maxScans The maximum count of sections that are scanned if they are not part of the index yet.
+	 * @return false if the box contains loaded sections that were not scanned yet.
+	 */
+	public boolean getAcceptedFlowers(String flowerType, BlockPos minPos, BlockPos maxPos, List<BlockPos> flowers, int maxScans) {
+		FlowerTypeIndex typeIndex = getTypeIndex(flowerType);
+		long worldTime = world.getTotalWorldTime();
+		int minY = Math.max(0, minPos.getY());
+		int maxY = Math.min(SECTION_SIZE * SECTION_COUNT - 1, maxPos.getY());
+		boolean complete = true;
+		int scans = 0;
+
+		for (int sectionX = minPos.getX() >> 4; sectionX <= maxPos.getX() >> 4; sectionX++) {
+			for (int sectionZ = minPos.getZ() >> 4; sectionZ <= maxPos.getZ() >> 4; sectionZ++) {
+				for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+					long key = getSectionKey(sectionX, sectionY, sectionZ);
+					FlowerSection section = typeIndex.sections.get(key);
+					if (section == null || worldTime - section.scanTime > SECTION_LIFETIME) {
+						if (scans >= maxScans) {
+							complete = false;
+							continue;
+						}
+						section = scanSection(typeIndex, sectionX, sectionY, sectionZ);
+						if (section == null) {
+							continue;
+						}
+						scans++;
+						typeIndex.sections.put(key, section);
+					}
+					section.addFlowers(sectionX, sectionY, sectionZ, minPos, maxPos, flowers);
+				}
+			}
+		}
+		return complete;
+	}
+
+	private FlowerTypeIndex getTypeIndex(String flowerType) {
+		return flowerTypes.computeIfAbsent(flowerType, type -> new FlowerTypeIndex(FlowerManager.flowerRegistry.createAcceptedFlowerPredicate(type)));
+	}
+
+	@Nullable
+	private FlowerSection scanSection(FlowerTypeIndex typeIndex, int sectionX, int sectionY, int sectionZ) {
+		BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos(sectionX << 4, sectionY << 4, sectionZ << 4);
+		if (!world.isBlockLoaded(pos)) {
+			return null;
+		}
+
+		FlowerSection section = new FlowerSection(world.getTotalWorldTime());
+		Chunk chunk = world.getChunk(sectionX, sectionZ);
+		ExtendedBlockStorage storage = chunk.getBlockStorageArray()[sectionY];
+		if (storage == Chunk.NULL_BLOCK_STORAGE || storage.isEmpty()) {
+			return section;
+		}
+
+		for (int y = 0; y < SECTION_SIZE; y++) {
+			for (int z = 0; z < SECTION_SIZE; z++) {
+				for (int x = 0; x < SECTION_SIZE; x++) {
+					pos.setPos((sectionX << 4) + x, (sectionY << 4) + y, (sectionZ << 4) + z);
+					if (typeIndex.predicate.test(world, pos)) {
+						section.flowers.add(getLocalIndex(x, y, z));
+					}
+				}
+			}
+		}
+		return section;
+	}
+
+	private static long getSectionKey(int sectionX, int sectionY, int sectionZ) {
+		return ((long) sectionX & 0x3FFFFFFL) << 38 | ((long) sectionY & 0xFFFL) << 26 | (long) sectionZ & 0x3FFFFFFL;
+	}
+
+	private static short getLocalIndex(int x, int y, int z) {
+		return (short) ((y & 15) << 8 | (z & 15) << 4 | x & 15);
+	}
+
+	/* BLOCK UPDATES */
+	@Override
+	public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+		if (pos.getY() < 0 || pos.getY() >= SECTION_SIZE * SECTION_COUNT) {
+			return;
+		}
+		long key = getSectionKey(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+		short localIndex = getLocalIndex(pos.getX(), pos.getY(), pos.getZ());
+		for (FlowerTypeIndex typeIndex : flowerTypes.values()) {
+			FlowerSection section = typeIndex.sections.get(key);
+			if (section != null) {
+				if (typeIndex.predicate.test(worldIn, pos)) {
+					section.flowers.add(localIndex);
+				} else {
+					section.flowers.remove(localIndex);
+				}
+			}
+		}
+	}
+
+	private static class FlowerTypeIndex {
+		private final IBlockPosPredicate predicate;
+		private final Long2ObjectMap<FlowerSection> sections = new Long2ObjectOpenHashMap<>();
+
+		public FlowerTypeIndex(IBlockPosPredicate predicate) {
+			this.predicate = predicate;
+		}
+	}
+
+	private static class FlowerSection {
+		private final long scanTime;
+		/**
+		 * The positions of the flowers inside of the section, sorted so queries always return them in the same order.
+		 */
+		private final ShortSortedSet flowers = new ShortRBTreeSet();
+
+		public FlowerSection(long scanTime) {
+			this.scanTime = scanTime;
+		}
+
+		public void addFlowers(int sectionX, int sectionY, int sectionZ, BlockPos minPos, BlockPos maxPos, List<BlockPos> list) {
+			ShortIterator iterator = flowers.iterator();
+			while (iterator.hasNext()) {
+				short localIndex = iterator.nextShort();
+				int x = (sectionX << 4) + (localIndex & 15);
+				int y = (sectionY << 4) + (localIndex >> 8 & 15);
+				int z = (sectionZ << 4) + (localIndex >> 4 & 15);
+				if (x >= minPos.getX() && x <= maxPos.getX() && y >= minPos.getY() && y <= maxPos.getY() && z >= minPos.getZ() && z <= maxPos.getZ()) {
+					list.add(new BlockPos(x, y, z));
+				}
+			}
+		}
+	}
+}
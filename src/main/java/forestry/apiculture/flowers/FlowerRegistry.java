@@ -18,6 +18,7 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -128,7 +129,7 @@ public final class FlowerRegistry implements IFlowerRegistry, IFlowerGrowthHelpe
 		}
 	}
 
-	private static Vec3i getArea(IBeeGenome genome, IBeeModifier beeModifier) {
+	static Vec3i getArea(IBeeGenome genome, IBeeModifier beeModifier) {
 		Vec3i genomeTerritory = genome.getTerritory();
 		float housingModifier = beeModifier.getTerritoryModifier(genome, 1f);
 		return VectUtil.scale(genomeTerritory, housingModifier * 3.0f);
@@ -139,6 +140,16 @@ public final class FlowerRegistry implements IFlowerRegistry, IFlowerGrowthHelpe
 		List<BlockPos> flowerCoords = new ArrayList<>();
 
 		World world = beeHousing.getWorldObj();
+		if (FlowerIndex.getIndex(world) != null) {
+			FlowerIndex.getAcceptedFlowers(beeHousing, bee, flowerType, flowerCoords, FlowerIndex.UNLIMITED_SCANS);
+			BlockPos center = beeHousing.getCoordinates();
+			flowerCoords.sort(Comparator.comparingDouble(center::distanceSq));
+			if (flowerCoords.size() > maxFlowers) {
+				return new ArrayList<>(flowerCoords.subList(0, maxFlowers));
+			}
+			return flowerCoords;
+		}
+
 		IBlockPosPredicate acceptedFlowerPredicate = createAcceptedFlowerPredicate(flowerType);
 		Iterator<BlockPos.MutableBlockPos> areaIterator = getAreaIterator(beeHousing, bee);
 		while (areaIterator.hasNext() && flowerCoords.size() < maxFlowers) {
@@ -67,8 +67,11 @@ import forestry.core.errors.EnumErrorCode;
 import forestry.core.genetics.Chromosome;
 import forestry.core.genetics.GenericRatings;
 import forestry.core.genetics.IndividualLiving;
+import forestry.core.genetics.MutationIndex;
+import forestry.core.genetics.SpeciesRoot;
 import forestry.core.tiles.TileUtil;
 import forestry.core.utils.GeneticsUtil;
+import forestry.core.utils.TerritoryView;
 import forestry.core.utils.Translator;
 import forestry.core.utils.VectUtil;
 
@@ -612,8 +615,11 @@ public class Bee extends IndividualLiving implements IBee {
 		GameProfile playerProfile = housing.getOwner();
 		IApiaristTracker breedingTracker = BeeManager.beeRoot.getBreedingTracker(world, playerProfile);
 
-		List<IMutation> combinations = BeeManager.beeRoot.getCombinations(allele0, allele1, true);
-		for (IMutation mutation : combinations) {
+		IMutation[] combinations = ((SpeciesRoot) BeeManager.beeRoot).getMutationIndex().getMutations(allele0, allele1);
+		int start = MutationIndex.getRandomStart(world.rand, combinations.length);
+		int step = MutationIndex.getRandomStep(world.rand, combinations.length);
+		for (int i = 0; i < combinations.length; i++) {
+			IMutation mutation = combinations[MutationIndex.getRandomOrderIndex(start, step, i, combinations.length)];
 			IBeeMutation beeMutation = (IBeeMutation) mutation;
 
 			float chance = beeMutation.getChance(housing, allele0, allele1, genome0, genome1);
@@ -658,18 +664,19 @@ public class Bee extends IndividualLiving implements IBee {
 		Vec3i offset = new Vec3i(-area.getX() / 2, -area.getY() / 4, -area.getZ() / 2);
 		BlockPos housingPos = housing.getCoordinates();
 
+		TerritoryView territory = getTerritoryView(world, housingPos, offset, area);
 		IIndividual pollen = null;
 
 		for (int i = 0; i < 20; i++) {
 			BlockPos randomPos = VectUtil.getRandomPositionInArea(random, area);
 			BlockPos blockPos = VectUtil.add(housingPos, randomPos, offset);
-			ICheckPollinatable pitcher = TileUtil.getTile(world, blockPos, ICheckPollinatable.class);
+			ICheckPollinatable pitcher = TileUtil.getTile(territory, blockPos, ICheckPollinatable.class);
 			if (pitcher != null) {
 				if (genome.getFlowerProvider().isAcceptedPollinatable(world, pitcher)) {
 					pollen = pitcher.getPollen();
 				}
 			} else {
-				pollen = GeneticsUtil.getPollen(world, blockPos);
+				pollen = GeneticsUtil.getPollen(territory, blockPos);
 			}
 
 			if (pollen != null) {
@@ -699,12 +706,14 @@ public class Bee extends IndividualLiving implements IBee {
 		Vec3i offset = new Vec3i(-area.getX() / 2, -area.getY() / 4, -area.getZ() / 2);
 		BlockPos housingPos = housing.getCoordinates();
 
+		TerritoryView territory = getTerritoryView(world, housingPos, offset, area);
+
 		for (int i = 0; i < 30; i++) {
 
 			BlockPos randomPos = VectUtil.getRandomPositionInArea(random, area);
 			BlockPos posBlock = VectUtil.add(housingPos, randomPos, offset);
 
-			ICheckPollinatable checkPollinatable = GeneticsUtil.getCheckPollinatable(world, posBlock);
+			ICheckPollinatable checkPollinatable = GeneticsUtil.getCheckPollinatable(territory, posBlock);
 			if (checkPollinatable == null) {
 				continue;
 			}
@@ -751,10 +760,17 @@ public class Bee extends IndividualLiving implements IBee {
 		Vec3i offset = new Vec3i(-area.getX() / 2, -area.getY() / 4, -area.getZ() / 2);
 		BlockPos housingPos = housing.getCoordinates();
 
+		TerritoryView territory = getTerritoryView(world, housingPos, offset, area);
+
 		for (int i = 0; i < 10; i++) {
 			BlockPos randomPos = VectUtil.getRandomPositionInArea(random, area);
 			BlockPos posBlock = VectUtil.add(housingPos, randomPos, offset);
 
+			// Never load chunks to grow flowers
+			if (!territory.isLoaded(posBlock)) {
+				continue;
+			}
+
 			if (potentialFlowers != null) {
 				if (FlowerManager.flowerRegistry.growFlower(provider.getFlowerType(), world, this, posBlock, potentialFlowers)) {
 					return posBlock;
@@ -769,6 +785,15 @@ public class Bee extends IndividualLiving implements IBee {
 		return null;
 	}
 
+	/**
+	 * @return The view of the territory that the random positions of the housing are chosen from.
+	 */
+	private static TerritoryView getTerritoryView(World world, BlockPos housingPos, Vec3i offset, Vec3i area) {
+		BlockPos minPos = VectUtil.add(housingPos, offset);
+		BlockPos maxPos = minPos.add(area.getX() - 1, area.getY() - 1, area.getZ() - 1);
+		return TerritoryView.get(world, minPos, maxPos);
+	}
+
 	private static Vec3i getArea(IBeeGenome genome, IBeeModifier beeModifier) {
 		Vec3i genomeTerritory = genome.getTerritory();
 		float housingModifier = beeModifier.getTerritoryModifier(genome, 1f);
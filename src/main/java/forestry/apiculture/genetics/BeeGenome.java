@@ -11,11 +11,6 @@
 package forestry.apiculture.genetics;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-
-import java.util.concurrent.TimeUnit;
 
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -35,6 +30,7 @@ import forestry.api.genetics.IChromosome;
 import forestry.api.genetics.IFlowerProvider;
 import forestry.api.genetics.ISpeciesRoot;
 import forestry.core.genetics.Genome;
+import forestry.core.genetics.GenomeCache;
 import forestry.core.genetics.alleles.AlleleArea;
 import forestry.core.genetics.alleles.AlleleBoolean;
 import forestry.core.genetics.alleles.AlleleTolerance;
@@ -57,18 +53,11 @@ public class BeeGenome extends Genome implements IBeeGenome {
 	 * 13 - Territory
 	 */
 
-	private static final LoadingCache<NBTTagCompound, BeeGenome> beeGenomeCache = CacheBuilder.newBuilder()
-		.maximumSize(128)
-		.expireAfterAccess(1, TimeUnit.MINUTES)
-		.build(new CacheLoader<NBTTagCompound, BeeGenome>() {
-			@Override
-			public BeeGenome load(NBTTagCompound tagCompound) {
-				return new BeeGenome(tagCompound);
-			}
-		});
-
+	/**
+	 * The decoded alleles are shared through the {@link GenomeCache}.
+	 */
 	public static BeeGenome fromNBT(NBTTagCompound nbtTagCompound) {
-		return beeGenomeCache.getUnchecked(nbtTagCompound);
+		return new BeeGenome(nbtTagCompound);
 	}
 
 	/* CONSTRUCTOR */
@@ -297,6 +297,7 @@ public class BeeRoot extends SpeciesRoot implements IBeeRoot {
 		}
 
 		beeMutations.add((IBeeMutation) mutation);
+		invalidateMutationIndex();
 	}
 
 	/* BREEDING MODES */
@@ -169,7 +169,19 @@ public class AlvearyController extends RectangularMultiblockControllerBase imple
 	@Override
 	protected void isMachineWhole() throws MultiblockValidationException {
 		super.isMachineWhole();
+		isSurroundingWhole();
+	}
+
+	@Override
+	protected void isMachineWholeWithValidatedParts() throws MultiblockValidationException {
+		super.isMachineWholeWithValidatedParts();
+		isSurroundingWhole();
+	}
 
+	/**
+	 * Checks the blocks around the alveary, they are not parts of it.
+	 */
+	private void isSurroundingWhole() throws MultiblockValidationException {
 		final BlockPos maximumCoord = getMaximumCoord();
 		final BlockPos minimumCoord = getMinimumCoord();
 
@@ -118,7 +118,7 @@ public abstract class TileAlvearyClimatiser extends TileAlveary implements IActi
 			if (world.isRemote) {
 				world.markBlockRangeForRenderUpdate(getPos(), getPos());
 			} else {
-				NetworkUtil.sendNetworkPacket(new PacketActiveUpdate(this), pos, world);
+				NetworkUtil.queueNetworkPacket(new PacketActiveUpdate(this), pos, world);
 			}
 		}
 	}
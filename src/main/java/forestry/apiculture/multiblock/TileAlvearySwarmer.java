@@ -205,7 +205,7 @@ public class TileAlvearySwarmer extends TileAlveary implements ISidedInventory,
 		this.active = active;
 
 		if (world != null && !world.isRemote) {
-			NetworkUtil.sendNetworkPacket(new PacketActiveUpdate(this), pos, world);
+			NetworkUtil.queueNetworkPacket(new PacketActiveUpdate(this), pos, world);
 		}
 	}
 
@@ -267,7 +267,7 @@ public class TileHive extends TileEntity implements ITickable, IHiveTile, IActiv
 		this.active = active;
 
 		if (!world.isRemote) {
-			NetworkUtil.sendNetworkPacket(new PacketActiveUpdate(this), pos, world);
+			NetworkUtil.queueNetworkPacket(new PacketActiveUpdate(this), pos, world);
 		}
 	}
 
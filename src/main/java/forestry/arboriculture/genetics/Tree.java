@@ -56,6 +56,8 @@ import forestry.arboriculture.genetics.alleles.AlleleFruits;
 import forestry.core.config.Config;
 import forestry.core.genetics.Chromosome;
 import forestry.core.genetics.Individual;
+import forestry.core.genetics.MutationIndex;
+import forestry.core.genetics.SpeciesRoot;
 import forestry.core.utils.Translator;
 
 public class Tree extends Individual implements ITree, IPlantable {
@@ -359,8 +361,11 @@ public class Tree extends Individual implements ITree, IPlantable {
 			breedingTracker = TreeManager.treeRoot.getBreedingTracker(world, playerProfile);
 		}
 
-		List<IMutation> combinations = TreeManager.treeRoot.getCombinations(allele0, allele1, true);
-		for (IMutation mutation : combinations) {
+		IMutation[] combinations = ((SpeciesRoot) TreeManager.treeRoot).getMutationIndex().getMutations(allele0, allele1);
+		int start = MutationIndex.getRandomStart(world.rand, combinations.length);
+		int step = MutationIndex.getRandomStep(world.rand, combinations.length);
+		for (int i = 0; i < combinations.length; i++) {
+			IMutation mutation = combinations[MutationIndex.getRandomOrderIndex(start, step, i, combinations.length)];
 			ITreeMutation treeMutation = (ITreeMutation) mutation;
 			// Stop blacklisted species.
 			// if (BeeManager.breedingManager.isBlacklisted(mutation.getTemplate()[0].getUID())) {
@@ -408,6 +408,7 @@ public class TreeRoot extends SpeciesRoot implements ITreeRoot {
 		}
 
 		treeMutations.add((ITreeMutation) mutation);
+		invalidateMutationIndex();
 	}
 
 	/* ILEAFTICKHANDLER */
@@ -24,7 +24,9 @@ import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
 
 import net.minecraftforge.common.EnumPlantType;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.event.world.BlockEvent;
 
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -179,8 +181,10 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 			float sappiness = genome.getSappiness() * sappinessModifier;
 
 			if (rand.nextFloat() < sappiness) {
+				float ripeness = getRipeness();
 				ripeningTime++;
 				sendNetworkUpdateRipening();
+				onRipened(ripeness);
 			}
 		}
 
@@ -355,7 +359,7 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 
 	/* NETWORK */
 	private void sendNetworkUpdate() {
-		NetworkUtil.sendNetworkPacket(new PacketTileStream(this), pos, world);
+		NetworkUtil.queueNetworkPacket(new PacketTileStream(this), pos, world);
 	}
 
 	private void sendNetworkUpdateRipening() {
@@ -366,7 +370,7 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 		colourFruits = newColourFruits;
 
 		PacketRipeningUpdate ripeningUpdate = new PacketRipeningUpdate(this);
-		NetworkUtil.sendNetworkPacket(ripeningUpdate, pos, world);
+		NetworkUtil.queueNetworkPacket(ripeningUpdate, pos, world);
 	}
 
 	private static final short hasFruitFlag = 1;
@@ -486,8 +490,21 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 		if (getTree() == null || !isFruitLeaf || getRipeningTime() >= ripeningPeriod) {
 			return;
 		}
+		float ripeness = getRipeness();
 		ripeningTime += ripeningPeriod * add;
 		sendNetworkUpdateRipening();
+		onRipened(ripeness);
+	}
+
+	/**
+	 * Posts a crop growth event once the fruit becomes ripe enough to be harvested, so farms don't have to search for it.
+	 * Ripening only changes the tile entity, so it is not noticed by the block updates of the world.
+	 */
+	private void onRipened(float previousRipeness) {
+		if (!world.isRemote && previousRipeness < 0.9f && getRipeness() >= 0.9f) {
+			IBlockState state = world.getBlockState(getPos());
+			MinecraftForge.EVENT_BUS.post(new BlockEvent.CropGrowEvent.Post(world, getPos(), state, state));
+		}
 	}
 
 	@Nullable
@@ -28,6 +28,7 @@ import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
+import forestry.api.climate.ClimateAccumulator;
 import forestry.api.climate.ClimateCapabilities;
 import forestry.api.climate.ClimateType;
 import forestry.api.climate.IClimateHousing;
@@ -63,6 +64,8 @@ public class TileHabitatFormer extends TilePowered implements IClimateHousing, I
 
 	private final FilteredTank resourceTank;
 	private final TankManager tankManager;
+	//The difference between the targeted and the current state, reused by every work cycle.
+	private final ClimateAccumulator changedState = new ClimateAccumulator();
 
 	public TileHabitatFormer() {
 		super(1200, 10000);
@@ -106,27 +109,27 @@ public class TileHabitatFormer extends TilePowered implements IClimateHousing, I
 	protected boolean workCycle() {
 		IErrorLogic errorLogic = getErrorLogic();
 		IClimateState currentState = transformer.getCurrent();
-		IClimateState changedState = transformer.getTarget().subtract(currentState);
-		IClimateState difference = getClimateDifference();
+		IClimateState targetedState = transformer.getTarget();
+		IClimateState defaultState = transformer.getDefault();
+		changedState.set(targetedState).subtract(currentState);
 		cachedStack = null;
-		if (difference.getHumidity() != 0.0F) {
+		if (targetedState.getHumidity() - defaultState.getHumidity() != 0.0F) {
 			updateHumidity(errorLogic, changedState);
 		}
-		if (difference.getTemperature() != 0.0F) {
+		if (targetedState.getTemperature() - defaultState.getTemperature() != 0.0F) {
 			updateTemperature(errorLogic, changedState);
 		}
 		return true;
 	}
 
-	private void updateHumidity(IErrorLogic errorLogic, IClimateState changedState) {
+	private void updateHumidity(IErrorLogic errorLogic, ClimateAccumulator changedState) {
 		IClimateManipulator manipulator = transformer.createManipulator(ClimateType.HUMIDITY).build();
 		if (manipulator.canAdd()) {
 			errorLogic.setCondition(false, EnumErrorCode.WRONG_RESOURCE);
-			int currentCost = getFluidCost(changedState);
+			int currentCost = getFluidCost(changedState.getHumidity());
 			if (resourceTank.drain(currentCost, false) != null) {
-				IClimateState simulatedState = /*changedState.add(ClimateType.HUMIDITY, climateChange)*/
-						changedState.toImmutable().add(manipulator.addChange(true));
-				int fluidCost = getFluidCost(simulatedState);
+				IClimateState change = manipulator.addChange(true);
+				int fluidCost = getFluidCost(changedState.getHumidity() + change.getHumidity());
 				if (resourceTank.drain(fluidCost, false) != null) {
 					cachedStack = resourceTank.drain(fluidCost, true);
 					manipulator.addChange(false);
@@ -150,13 +153,13 @@ public class TileHabitatFormer extends TilePowered implements IClimateHousing, I
 		manipulator.finish();
 	}
 
-	private void updateTemperature(IErrorLogic errorLogic, IClimateState changedState) {
+	private void updateTemperature(IErrorLogic errorLogic, ClimateAccumulator changedState) {
 		IClimateManipulator manipulator = transformer.createManipulator(ClimateType.TEMPERATURE).setAllowBackwards().build();
 		EnergyManager energyManager = getEnergyManager();
-		int currentCost = getEnergyCost(changedState);
+		int currentCost = getEnergyCost(changedState.getTemperature());
 		if (energyManager.extractEnergy(currentCost, true) > 0) {
 			IClimateState simulatedState = manipulator.addChange(true);
-			int energyCost = getEnergyCost(simulatedState);
+			int energyCost = getEnergyCost(simulatedState.getTemperature());
 			if (energyManager.extractEnergy(energyCost, true) > 0) {
 				energyManager.extractEnergy(energyCost, false);
 				manipulator.addChange(false);
@@ -171,7 +174,7 @@ public class TileHabitatFormer extends TilePowered implements IClimateHousing, I
 		manipulator.finish();
 	}
 
-	private int getFluidCost(IClimateState state) {
+	private int getFluidCost(float humidityChange) {
 		FluidStack fluid = resourceTank.getFluid();
 		if (fluid == null) {
 			return 0;
@@ -180,11 +183,11 @@ public class TileHabitatFormer extends TilePowered implements IClimateHousing, I
 		if (recipe == null) {
 			return 0;
 		}
-		return Math.round((1.0F + MathHelper.abs(state.getHumidity())) * transformer.getCostModifier() * recipe.getResource().amount);
+		return Math.round((1.0F + MathHelper.abs(humidityChange)) * transformer.getCostModifier() * recipe.getResource().amount);
 	}
 
-	private int getEnergyCost(IClimateState state) {
-		return Math.round((1.0F + MathHelper.abs(state.getTemperature())) * transformer.getCostModifier());
+	private int getEnergyCost(float temperatureChange) {
+		return Math.round((1.0F + MathHelper.abs(temperatureChange)) * transformer.getCostModifier());
 	}
 
 	@Override
@@ -208,12 +211,6 @@ public class TileHabitatFormer extends TilePowered implements IClimateHousing, I
 		return (0.05F + fluidChange) * 0.5F / transformer.getSpeedModifier();
 	}
 
-	private IClimateState getClimateDifference() {
-		IClimateState defaultState = transformer.getDefault();
-		IClimateState targetedState = transformer.getTarget();
-		return targetedState.subtract(defaultState);
-	}
-
 	@Override
 	public void markNetworkUpdate() {
 		setNeedsNetworkUpdate();
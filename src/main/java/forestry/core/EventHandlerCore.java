@@ -31,6 +31,7 @@ import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.Event.Result;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.PlayerEvent;
+import net.minecraftforge.fml.common.network.FMLNetworkEvent;
 import net.minecraftforge.fml.common.registry.VillagerRegistry;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -43,9 +44,14 @@ import forestry.apiculture.ApiaristAI;
 import forestry.apiculture.ModuleApiculture;
 import forestry.core.config.Constants;
 import forestry.core.errors.ErrorStateRegistry;
+import forestry.core.genetics.AllelePalette;
 import forestry.core.models.ModelBlockCached;
 import forestry.core.models.ModelBlockCustomCached;
+import forestry.core.network.TileUpdateQueue;
+import forestry.core.network.packets.PacketAllelePaletteSync;
 import forestry.core.render.TextureManagerForestry;
+import forestry.core.utils.NetworkUtil;
+import forestry.core.utils.TerritoryView;
 import forestry.modules.ModuleManager;
 
 public class EventHandlerCore {
@@ -71,6 +77,13 @@ public class EventHandlerCore {
 	public void handlePlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
 		EntityPlayer player = event.player;
 		syncBreedingTrackers(player);
+		syncAllelePalette(player);
+	}
+
+	@SubscribeEvent
+	@SideOnly(Side.CLIENT)
+	public void handleClientDisconnect(FMLNetworkEvent.ClientDisconnectionFromServerEvent event) {
+		AllelePalette.setClientPalette(null);
 	}
 
 	@SubscribeEvent
@@ -88,6 +101,13 @@ public class EventHandlerCore {
 		}
 	}
 
+	private static void syncAllelePalette(EntityPlayer player) {
+		AllelePalette palette = AllelePalette.getServerPalette();
+		if (palette != null) {
+			NetworkUtil.sendToPlayer(new PacketAllelePaletteSync(palette.getPaletteId(), 0, palette.getUids()), player);
+		}
+	}
+
 	@SubscribeEvent
 	public void handleWorldLoad(WorldEvent.Load event) {
 		World world = event.getWorld();
@@ -106,6 +126,9 @@ public class EventHandlerCore {
 
 	@SubscribeEvent
 	public void handleWorldUnload(WorldEvent.Unload event) {
+		TileUpdateQueue.onWorldUnloaded(event.getWorld());
+		TerritoryView.onWorldUnloaded(event.getWorld());
+
 		for (ISaveEventHandler handler : ModuleManager.saveEventHandlers) {
 			handler.onWorldUnload(event.getWorld());
 		}
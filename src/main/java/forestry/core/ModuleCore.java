@@ -51,6 +51,7 @@ import forestry.core.blocks.BlockRegistryCore;
 import forestry.core.blocks.EnumResourceType;
 import forestry.core.circuits.CircuitRegistry;
 import forestry.core.circuits.SolderManager;
+import forestry.core.commands.CommandGenomeCache;
 import forestry.core.commands.CommandListAlleles;
 import forestry.core.commands.CommandModules;
 import forestry.core.commands.RootCommand;
@@ -142,6 +143,7 @@ public class ModuleCore extends BlankForestryModule {
 
 		rootCommand.addChildCommand(new CommandModules());
 		rootCommand.addChildCommand(new CommandListAlleles());
+		rootCommand.addChildCommand(new CommandGenomeCache());
 	}
 
 	@Override
@@ -12,10 +12,13 @@ package forestry.core;
 
 import net.minecraft.world.World;
 
+import forestry.core.genetics.AllelePalette;
+
 public class SaveEventHandlerCore implements ISaveEventHandler {
 
 	@Override
 	public void onWorldLoad(World world) {
+		AllelePalette.onServerWorldLoad(world);
 	}
 
 	@Override
@@ -24,6 +27,7 @@ public class SaveEventHandlerCore implements ISaveEventHandler {
 
 	@Override
 	public void onWorldUnload(World world) {
+		AllelePalette.onServerWorldUnload(world);
 	}
 
 }
@@ -34,6 +34,7 @@ import net.minecraftforge.fml.common.registry.GameRegistry;
 
 import forestry.core.config.Config;
 import forestry.core.config.Constants;
+import forestry.core.network.TileUpdateQueue;
 import forestry.core.worldgen.WorldGenerator;
 import forestry.modules.ModuleManager;
 
@@ -56,6 +57,10 @@ public class TickHandlerCoreServer {
 			return;
 		}
 
+		if (event.world instanceof WorldServer) {
+			TileUpdateQueue.flush((WorldServer) event.world);
+		}
+
 		if (Config.enableBackpackResupply) {
 			for (Object obj : event.world.playerEntities) {
 				EntityPlayer player = (EntityPlayer) obj;
@@ -6,6 +6,7 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
 
@@ -31,8 +32,6 @@ import forestry.core.utils.NetworkUtil;
 import forestry.core.utils.TickHelper;
 
 public class ClimateListener implements IClimateListener {
-	public static final int SERVER_UPDATE = 250;
-
 	private final Object locationProvider;
 	@Nullable
 	protected World world;
@@ -44,9 +43,13 @@ public class ClimateListener implements IClimateListener {
 	private TickHelper tickHelper;
 	@SideOnly(Side.CLIENT)
 	protected boolean needsClimateUpdate;
-	//The total world time at the moment the cached state has been updated
-	private long cacheTime = 0;
-	private long lastUpdate = 0;
+	//The climate holder and the chunk this listener is registered at, the holder tells it about every change of the chunk
+	@Nullable
+	private WorldClimateHolder climateHolder;
+	private long listenedChunk;
+	//The version of the chunk at the moment the cached state has been updated
+	private long chunkVersion = -1;
+	private boolean climateChanged = true;
 
 	public ClimateListener(Object locationProvider) {
 		this.locationProvider = locationProvider;
@@ -77,20 +80,54 @@ public class ClimateListener implements IClimateListener {
 		}
 	}
 
+	/**
+	 * Called by the climate holder if the climate of the chunk of this listener may have changed.
+	 */
+	void onClimateChanged() {
+		climateChanged = true;
+	}
+
 	private void updateState(boolean syncToClient) {
-		IWorldClimateHolder climateHolder = ClimateManager.climateRoot.getWorldClimate(getWorldObj());
-		long totalTime = getWorldObj().getTotalWorldTime();
-		if (cacheTime + SERVER_UPDATE > totalTime && climateHolder.getLastUpdate(getCoordinates()) == lastUpdate) {
+		if (!climateChanged) {
 			return;
 		}
-		lastUpdate = climateHolder.getLastUpdate(getCoordinates());
-		cachedState = climateHolder.getState(getCoordinates());
-		cacheTime = totalTime;
+		climateChanged = false;
+
+		BlockPos coordinates = getCoordinates();
+		IWorldClimateHolder worldClimate = ClimateManager.climateRoot.getWorldClimate(getWorldObj());
+		long chunkPos = ChunkPos.asLong(coordinates.getX() >> 4, coordinates.getZ() >> 4);
+		if (worldClimate instanceof WorldClimateHolder) {
+			WorldClimateHolder holder = (WorldClimateHolder) worldClimate;
+			if (holder != climateHolder || chunkPos != listenedChunk) {
+				unregister();
+				holder.addListener(chunkPos, this);
+				climateHolder = holder;
+				listenedChunk = chunkPos;
+			}
+			long version = holder.getChunkVersion(chunkPos);
+			if (version == chunkVersion) {
+				return;
+			}
+			chunkVersion = version;
+		} else {
+			// unknown holders can't tell this listener about changes
+			climateChanged = true;
+		}
+
+		cachedState = worldClimate.getState(coordinates);
 		if (syncToClient) {
 			syncToClient();
 		}
 	}
 
+	private void unregister() {
+		if (climateHolder != null) {
+			climateHolder.removeListener(listenedChunk, this);
+			climateHolder = null;
+		}
+		chunkVersion = -1;
+	}
+
 	private IClimateState getState() {
 		return getState(true);
 	}
@@ -165,6 +202,11 @@ public class ClimateListener implements IClimateListener {
 
 	@Override
 	public IClimateState getClimateState() {
+		IClimateState climateState = getState();
+		if (climateState.isPresent()) {
+			// the cached state is replaced on every change, so it can be shared instead of copied
+			return climateState.toImmutable();
+		}
 		return ClimateStateHelper.of(getExactTemperature(), getExactHumidity());
 	}
 
@@ -223,6 +265,9 @@ public class ClimateListener implements IClimateListener {
 	public void markLocatableDirty() {
 		this.world = null;
 		this.pos = null;
+		// the position may have moved inside of the same chunk
+		climateChanged = true;
+		chunkVersion = -1;
 		World worldObj = getWorldObj();
 		if (!worldObj.isRemote) {
 			updateState(true);
@@ -86,15 +86,15 @@ public class ClimateManipulator implements IClimateManipulator {
 	@Override
 	public boolean canAdd() {
 		//Difference between the targeted state of this method and the current state.
-		IClimateState difference = targetedState.subtract(startState);
-		if (ClimateStateHelper.isZero(type, difference)) {
+		float difference = getDifference(targetedState, startState);
+		if (difference == 0.0F) {
 			return true;
 		}
 		float change = changeSupplier.apply(type, this);
-		boolean rightDirection = difference.getClimate(type) > 0.0F && change > 0.0F || difference.getClimate(type) < 0.0F && change < 0.0F;
+		boolean rightDirection = difference > 0.0F && change > 0.0F || difference < 0.0F && change < 0.0F;
 		if (!rightDirection) {
-			IClimateState diffToDefault = startState.subtract(defaultState);
-			return backwards || (diffToDefault.getClimate(type) > 0.0F && change > 0.0F || diffToDefault.getClimate(type) < 0.0F && change < 0.0F);
+			float diffToDefault = getDifference(startState, defaultState);
+			return backwards || (diffToDefault > 0.0F && change > 0.0F || diffToDefault < 0.0F && change < 0.0F);
 		}
 		return true;
 	}
@@ -110,20 +110,20 @@ public class ClimateManipulator implements IClimateManipulator {
 	private IClimateState applyChange(boolean worked, boolean simulated) {
 		IClimateState target = worked ? targetedState : defaultState;
 		//Difference between the targeted state of this method and the current state.
-		IClimateState difference = target.subtract(startState);
+		float difference = getDifference(target, startState);
 		//Do nothing if the current state already equals the targeted state of this method.
-		if (ClimateStateHelper.isZero(type, difference)) {
+		if (difference == 0.0F) {
 			return ClimateStateHelper.ZERO_STATE;
 		}
 		float change = changeSupplier.apply(type, this);
 		//Create a mutable state that contains the current change.
 		IClimateState changeState = ClimateStateHelper.INSTANCE.create(type, change).toMutable();
-		boolean rightDirection = difference.getClimate(type) > 0.0F && change > 0.0F || difference.getClimate(type) < 0.0F && change < 0.0F;
+		boolean rightDirection = difference > 0.0F && change > 0.0F || difference < 0.0F && change < 0.0F;
 		if (!rightDirection) {
-			IClimateState diffToDefault = startState.subtract(defaultState);
+			float diffToDefault = getDifference(startState, defaultState);
 			//Check if 'bothDirections' is true or if the difference to the default state has the same direction like the change state.
 			//The Second one allows to go back to the default state if the current target is above, if the change is negative, or below, if the change is positive, the last targeted state.
-			if (!worked || backwards || (diffToDefault.getClimate(type) > 0.0F && change > 0.0F || diffToDefault.getClimate(type) < 0.0F && change < 0.0F)) {
+			if (!worked || backwards || (diffToDefault > 0.0F && change > 0.0F || diffToDefault < 0.0F && change < 0.0F)) {
 				//If so negate the current change so we can go back the targeted state.
 				changeState.multiply(-1.0F);
 			} else {
@@ -131,9 +131,10 @@ public class ClimateManipulator implements IClimateManipulator {
 				return ClimateStateHelper.ZERO_STATE;
 			}
 		}
-		IClimateState newState = startState.add(changeState);
-		IClimateState newDifference = target.subtract(newState);
-		float diff = newDifference.getClimate(type);
+		float diff = Float.NaN;
+		if (target.isPresent() && startState.isPresent() && changeState.isPresent()) {
+			diff = target.getClimate(type) - (startState.getClimate(type) + changeState.getClimate(type));
+		}
 		//Round up or down to the targeted state if possible
 		if (canRound(diff)) {
 			changeState.add(type, diff);
@@ -145,6 +146,16 @@ public class ClimateManipulator implements IClimateManipulator {
 		return changeState;
 	}
 
+	/**
+	 * @return The difference of the climate values of the type of this manipulator, without creating a difference state.
+	 */
+	private float getDifference(IClimateState state, IClimateState subtrahend) {
+		if (!state.isPresent() || !subtrahend.isPresent()) {
+			return Float.NaN;
+		}
+		return state.getClimate(type) - subtrahend.getClimate(type);
+	}
+
 	private static boolean canRound(float diff) {
 		return BigDecimal.valueOf(MathHelper.abs(diff)).setScale(2, BigDecimal.ROUND_HALF_UP).floatValue() <= ClimateStateHelper.CLIMATE_CHANGE;
 	}
@@ -17,6 +17,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 
+import forestry.api.climate.ClimateAccumulator;
 import forestry.api.climate.ClimateManager;
 import forestry.api.climate.ClimateType;
 import forestry.api.climate.IClimateHousing;
@@ -215,9 +216,9 @@ public class ClimateTransformer implements IClimateTransformer, IStreamable, INb
 		if (addedToWorld && area != prevArea) {
 			int areaDelta = Math.abs(area - prevArea);
 			float speedDelta = calculateSpeedModifier(areaDelta);
-			IClimateState deltaState = currentState.subtract(defaultState);
-			IClimateState scaledDelta = deltaState.multiply(area > prevArea ? (1.0F / speedDelta) : speedDelta);
-			setCurrent(scaledDelta.add(defaultState));
+			ClimateAccumulator scaledDelta = new ClimateAccumulator().set(currentState).subtract(defaultState);
+			scaledDelta.multiply(area > prevArea ? (1.0F / speedDelta) : speedDelta);
+			setCurrent(scaledDelta.add(defaultState).toState());
 		}
 	}
 
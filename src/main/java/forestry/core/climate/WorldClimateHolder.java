@@ -2,9 +2,11 @@ package forestry.core.climate;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -17,6 +19,7 @@ import net.minecraft.world.storage.WorldSavedData;
 
 import net.minecraftforge.common.util.Constants;
 
+import forestry.api.climate.ClimateAccumulator;
 import forestry.api.climate.IClimateState;
 import forestry.api.climate.IClimateTransformer;
 import forestry.api.climate.IWorldClimateHolder;
@@ -24,8 +27,8 @@ import forestry.api.climate.Position2D;
 import forestry.api.core.INbtWritable;
 import forestry.core.utils.NBTUtilForestry;
 
-import it.unimi.dsi.fastutil.longs.Long2LongArrayMap;
 import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 
@@ -45,7 +48,14 @@ public class WorldClimateHolder extends WorldSavedData implements IWorldClimateH
 
 	private final Long2ObjectMap<TransformerData> transformers = new Long2ObjectOpenHashMap<>();
 	private final Long2ObjectMap<long[]> transformersByChunk = new Long2ObjectOpenHashMap<>();
-	private final Long2LongMap chunkUpdates = new Long2LongArrayMap();
+	private final Long2LongMap chunkUpdates = new Long2LongOpenHashMap();
+	// not saved, created from the transformers of a chunk the first time a state inside of the chunk is needed
+	private final Long2ObjectMap<ChunkClimate> chunkClimates = new Long2ObjectOpenHashMap<>();
+	private final ClimateAccumulator accumulator = new ClimateAccumulator();
+	// not saved, counts the updates of every chunk so listeners can tell whether their state is still up to date
+	private final Long2LongMap chunkVersions = new Long2LongOpenHashMap();
+	// listeners that unload are dropped by the garbage collector
+	private final Long2ObjectMap<Set<ClimateListener>> listenersByChunk = new Long2ObjectOpenHashMap<>();
 
 	@Nullable
 	private World world;
@@ -61,6 +71,7 @@ public class WorldClimateHolder extends WorldSavedData implements IWorldClimateH
 	@Override
 	public void readFromNBT(NBTTagCompound nbt) {
 		transformers.clear();
+		chunkClimates.clear();
 		NBTTagList transformerData = nbt.getTagList(TRANSFORMERS_KEY, Constants.NBT.TAG_COMPOUND);
 		for (int i = 0; i < transformerData.tagCount(); i++) {
 			NBTTagCompound tagCompound = transformerData.getCompoundTagAt(i);
@@ -143,11 +154,50 @@ public class WorldClimateHolder extends WorldSavedData implements IWorldClimateH
 	}
 
 	private void markChunkUpdate(long chunkPos) {
+		invalidateChunk(chunkPos);
 		if (world != null) {
 			chunkUpdates.put(chunkPos, world.getTotalWorldTime());
 		}
 	}
 
+	/**
+	 * Forgets the resolved states of the chunk, advances its version and tells the listeners inside of it.
+	 */
+	private void invalidateChunk(long chunkPos) {
+		chunkClimates.remove(chunkPos);
+		chunkVersions.put(chunkPos, chunkVersions.get(chunkPos) + 1);
+		Set<ClimateListener> listeners = listenersByChunk.get(chunkPos);
+		if (listeners != null) {
+			for (ClimateListener listener : listeners) {
+				listener.onClimateChanged();
+			}
+		}
+	}
+
+	/**
+	 * @return A counter that advances every time the climate of the chunk may have changed.
+	 */
+	public long getChunkVersion(long chunkPos) {
+		return chunkVersions.get(chunkPos);
+	}
+
+	/**
+	 * Registers the listener to be told about every change of the climate of the chunk.
+	 */
+	public void addListener(long chunkPos, ClimateListener listener) {
+		listenersByChunk.computeIfAbsent(chunkPos, pos -> Collections.newSetFromMap(new WeakHashMap<>())).add(listener);
+	}
+
+	public void removeListener(long chunkPos, ClimateListener listener) {
+		Set<ClimateListener> listeners = listenersByChunk.get(chunkPos);
+		if (listeners != null) {
+			listeners.remove(listener);
+			if (listeners.isEmpty()) {
+				listenersByChunk.remove(chunkPos);
+			}
+		}
+	}
+
 	@Override
 	public void updateTransformer(IClimateTransformer transformer) {
 		BlockPos position = transformer.getCoordinates();
@@ -158,9 +208,16 @@ public class WorldClimateHolder extends WorldSavedData implements IWorldClimateH
 			boolean needClimateUpdate = !data.climateState.equals(transformer.getCurrent());
 			data.climateState = transformer.getCurrent().toImmutable();
 			if (needChunkUpdate) {
+				// the range of the transformer inside of the chunks changed
+				for (long chunkPos : data.chunks) {
+					invalidateChunk(chunkPos);
+				}
 				data.circular = transformer.isCircular();
 				data.range = transformer.getRange();
 				data.chunks = updateTransformerChunks(transformer, needClimateUpdate);
+				for (long chunkPos : data.chunks) {
+					invalidateChunk(chunkPos);
+				}
 			} else if (needClimateUpdate) {
 				for (long chunkPos : data.chunks) {
 					markChunkUpdate(chunkPos);
@@ -224,30 +281,62 @@ public class WorldClimateHolder extends WorldSavedData implements IWorldClimateH
 
 	@Override
 	public boolean isPositionInTransformerRange(long position, Position2D blockPos) {
-		BlockPos pos = BlockPos.fromLong(position);
-		int range = getRange(position);
-		if (isCircular(position)) {
-			double distance = Math.round(blockPos.getDistance(pos));
+		return isInRange(transformers.getOrDefault(position, DEFAULT_DATA), blockPos.getX(), blockPos.getZ());
+	}
+
+	private static boolean isInRange(TransformerData data, int x, int z) {
+		int range = data.range;
+		int distanceX = x - data.x;
+		int distanceZ = z - data.z;
+		if (data.circular) {
+			double distance = Math.round(Math.sqrt((double) distanceX * distanceX + (double) distanceZ * distanceZ));
 			return range > 0.0F && distance <= range;
 		}
-		return MathHelper.abs(blockPos.getX() - pos.getX()) <= range && MathHelper.abs(blockPos.getZ() - pos.getZ()) <= range;
+		return MathHelper.abs(distanceX) <= range && MathHelper.abs(distanceZ) <= range;
 	}
 
 	@Override
 	public IClimateState getState(BlockPos pos) {
 		long chunkPos = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
-		if (!transformersByChunk.containsKey(chunkPos)) {
-			return ClimateStateHelper.INSTANCE.absent();
+		ChunkClimate chunkClimate = chunkClimates.get(chunkPos);
+		if (chunkClimate == null) {
+			long[] chunkTransformers = transformersByChunk.get(chunkPos);
+			if (chunkTransformers == null) {
+				return ClimateStateHelper.INSTANCE.absent();
+			}
+			chunkClimate = createChunkClimate(pos.getX() >> 4, pos.getZ() >> 4, chunkTransformers);
+			chunkClimates.put(chunkPos, chunkClimate);
 		}
-		double transformerCount = 0;
-		IClimateState state = ClimateStateHelper.INSTANCE.mutableZero();
-		for (long transformerPos : transformersByChunk.get(chunkPos)) {
-			if (isPositionInTransformerRange(transformerPos, new Position2D(pos))) {
-				state = state.add(getClimate(transformerPos));
-				transformerCount++;
+
+		int column = (pos.getZ() & 15) << 4 | pos.getX() & 15;
+		IClimateState state = chunkClimate.states[column];
+		if (state == null) {
+			state = chunkClimate.resolveState(column, pos.getX(), pos.getZ(), accumulator);
+			chunkClimate.states[column] = state;
+		}
+		return state;
+	}
+
+	private ChunkClimate createChunkClimate(int chunkX, int chunkZ, long[] chunkTransformers) {
+		TransformerData[] chunkData = new TransformerData[chunkTransformers.length];
+		for (int i = 0; i < chunkTransformers.length; i++) {
+			chunkData[i] = transformers.getOrDefault(chunkTransformers[i], DEFAULT_DATA);
+		}
+
+		long[] coverage = null;
+		if (chunkData.length <= Long.SIZE) {
+			coverage = new long[ChunkClimate.COLUMNS];
+			for (int column = 0; column < ChunkClimate.COLUMNS; column++) {
+				int x = chunkX << 4 | column & 15;
+				int z = chunkZ << 4 | column >> 4;
+				for (int i = 0; i < chunkData.length; i++) {
+					if (isInRange(chunkData[i], x, z)) {
+						coverage[column] |= 1L << i;
+					}
+				}
 			}
 		}
-		return transformerCount > 0 ? state.multiply(1.0D / transformerCount).toImmutable() : ClimateStateHelper.INSTANCE.absent();
+		return new ChunkClimate(chunkData, coverage);
 	}
 
 	@Override
@@ -265,15 +354,56 @@ public class WorldClimateHolder extends WorldSavedData implements IWorldClimateH
 		return chunkUpdates.get(chunkPos);
 	}
 
+	/**
+	 * The transformers of a chunk, the columns of the chunk they reach and the states of the columns that were
+	 * resolved since the last update of the chunk.
+	 */
+	private static class ChunkClimate {
+		private static final int COLUMNS = 256;
+
+		private final TransformerData[] transformers;
+		// a bit mask of the transformers that reach every column, null if the chunk has more transformers than bits
+		@Nullable
+		private final long[] coverage;
+		private final IClimateState[] states = new IClimateState[COLUMNS];
+
+		private ChunkClimate(TransformerData[] transformers, @Nullable long[] coverage) {
+			this.transformers = transformers;
+			this.coverage = coverage;
+		}
+
+		private IClimateState resolveState(int column, int x, int z, ClimateAccumulator accumulator) {
+			int transformerCount = 0;
+			accumulator.reset();
+			for (int i = 0; i < transformers.length; i++) {
+				boolean inRange = coverage != null ? (coverage[column] & 1L << i) != 0 : isInRange(transformers[i], x, z);
+				if (inRange) {
+					accumulator.add(transformers[i].climateState);
+					transformerCount++;
+				}
+			}
+			if (transformerCount == 0) {
+				return ClimateStateHelper.INSTANCE.absent();
+			}
+			return accumulator.multiply(1.0D / transformerCount).toState();
+		}
+	}
+
 	private static class TransformerData implements INbtWritable {
 		private IClimateState climateState = ClimateStateHelper.INSTANCE.absent();
 		private int range;
 		private boolean circular;
 		private long position;
+		// the decoded position, so range checks don't have to decode it
+		private final int x;
+		private final int z;
 		private long[] chunks = new long[0];
 
 		private TransformerData(long position, IClimateState climateState, int range, boolean circular, long[] chunks) {
 			this.position = position;
+			BlockPos pos = BlockPos.fromLong(position);
+			this.x = pos.getX();
+			this.z = pos.getZ();
 			this.climateState = climateState;
 			this.range = range;
 			this.circular = circular;
@@ -282,6 +412,9 @@ public class WorldClimateHolder extends WorldSavedData implements IWorldClimateH
 
 		private TransformerData(NBTTagCompound nbt) {
 			position = nbt.getLong(POS_KEY);
+			BlockPos pos = BlockPos.fromLong(position);
+			x = pos.getX();
+			z = pos.getZ();
 			range = nbt.getInteger(RANGE_KEY);
 			climateState = ClimateStateHelper.INSTANCE.create(nbt.getCompoundTag(STATE_DATA_KEY));
 			circular = nbt.getBoolean(CIRCULAR_KEY);
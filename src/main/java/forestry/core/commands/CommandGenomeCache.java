@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.commands;
+
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+
+import forestry.core.genetics.GenomeCache;
+
+/**
+ * Prints the statistics of the {@link GenomeCache}.
+ */
+public class CommandGenomeCache extends SubCommand {
+
+	public CommandGenomeCache() {
+		super("genomeCache");
+		setPermLevel(PermLevel.ADMIN);
+		addChildCommand(new CommandGenomeCacheClear());
+	}
+
+	@Override
+	public void executeSubCommand(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+		if (args.length != 0) {
+			CommandHelpers.throwWrongUsage(sender, this);
+		}
+
+		long hits = GenomeCache.getHits();
+		long misses = GenomeCache.getMisses();
+		long requests = hits + misses;
+		String hitRate = String.format("%.1f", requests > 0 ? hits * 100.0 / requests : 0.0);
+		CommandHelpers.sendLocalizedChatMessage(sender, "for.chat.genomecache.stats", GenomeCache.getSize(), hits, misses, GenomeCache.getInvalidations(), hitRate);
+	}
+
+	public static class CommandGenomeCacheClear extends SubCommand {
+
+		public CommandGenomeCacheClear() {
+			super("clear");
+			setPermLevel(PermLevel.ADMIN);
+		}
+
+		@Override
+		public void executeSubCommand(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+			GenomeCache.clear();
+			CommandHelpers.sendLocalizedChatMessage(sender, "for.chat.genomecache.cleared");
+		}
+	}
+}
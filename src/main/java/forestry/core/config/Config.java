@@ -94,6 +94,7 @@ public class Config {
 
 	// Performance
 	public static boolean enableBackpackResupply = true;
+	public static boolean compactGenomeNbt = false;
 
 	// Customization
 	private static boolean craftingBronzeEnabled = true;
@@ -286,6 +287,7 @@ public class Config {
 		maxResearchMutationBoostPercent = configCommon.getFloatLocalized("genetics.research.boost", "max.percent", maxResearchMutationBoostPercent, 0.0f, 100.0f);
 
 		enableBackpackResupply = configCommon.getBooleanLocalized("performance", "backpacks.resupply", enableBackpackResupply);
+		compactGenomeNbt = configCommon.getBooleanLocalized("performance", "genomes.compact", compactGenomeNbt);
 
 		humusDegradeDelimiter = configCommon.getIntLocalized("tweaks.humus", "degradeDelimiter", humusDegradeDelimiter, 1, 10);
 
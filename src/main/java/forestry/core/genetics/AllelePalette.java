@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.World;
+import net.minecraft.world.storage.WorldSavedData;
+
+import net.minecraftforge.common.util.Constants;
+
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.relauncher.Side;
+
+import forestry.Forestry;
+import forestry.api.genetics.AlleleManager;
+import forestry.api.genetics.IAllele;
+import forestry.core.network.packets.PacketAllelePaletteSync;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+/**
+ * Assigns a stable index to every allele uid of a save.
+ * <p>
+ * Compact genomes only store these indices instead of the uids. The palette of the server is saved with the world
+ * and synced to the clients, so both sides can read compact genomes. The id of the palette is written with every
+ * compact genome, so genomes of another save are never decoded with the wrong palette.
+ */
+public class AllelePalette extends WorldSavedData {
+	public static final String SAVE_NAME = "ForestryAllelePalette";
+	public static final int MISSING_INDEX = -1;
+
+	private static final String ID_KEY = "PaletteId";
+	private static final String UIDS_KEY = "UIDs";
+
+	@Nullable
+	private static AllelePalette serverPalette;
+	@Nullable
+	private static AllelePalette clientPalette;
+
+	private long paletteId;
+	private final List<String> uids = new ArrayList<>();
+	private final Object2IntMap<String> indices = new Object2IntOpenHashMap<>();
+
+	public AllelePalette() {
+		this(SAVE_NAME);
+	}
+
+	@SuppressWarnings("unused")
+	public AllelePalette(String s) {
+		super(s);
+		indices.defaultReturnValue(MISSING_INDEX);
+	}
+
+	/* ACTIVE PALETTES */
+	public static void onServerWorldLoad(World world) {
+		if (world.isRemote || world.provider.getDimension() != 0) {
+			return;
+		}
+		AllelePalette palette = (AllelePalette) world.loadData(AllelePalette.class, SAVE_NAME);
+		if (palette == null) {
+			palette = new AllelePalette();
+			palette.paletteId = new Random().nextLong();
+			palette.markDirty();
+			world.setData(SAVE_NAME, palette);
+		}
+		serverPalette = palette;
+	}
+
+	public static void onServerWorldUnload(World world) {
+		if (!world.isRemote && world.provider.getDimension() == 0) {
+			serverPalette = null;
+		}
+	}
+
+	public static void setClientPalette(@Nullable AllelePalette palette) {
+		clientPalette = palette;
+	}
+
+	@Nullable
+	public static AllelePalette getClientPalette() {
+		return clientPalette;
+	}
+
+	@Nullable
+	public static AllelePalette getServerPalette() {
+		return serverPalette;
+	}
+
+	/**
+	 * @return The palette of the side this is called from, or null if no world is loaded.
+	 */
+	@Nullable
+	public static AllelePalette getPalette() {
+		FMLCommonHandler handler = FMLCommonHandler.instance();
+		if (handler.getSide() == Side.SERVER || handler.getEffectiveSide() == Side.SERVER) {
+			return serverPalette;
+		}
+		return clientPalette;
+	}
+
+	/* PALETTE */
+	public static AllelePalette createClientPalette(long paletteId) {
+		AllelePalette palette = new AllelePalette();
+		palette.paletteId = paletteId;
+		return palette;
+	}
+
+	public long getPaletteId() {
+		return paletteId;
+	}
+
+	public synchronized int getIndex(IAllele allele) {
+		return indices.getInt(allele.getUID());
+	}
+
+	/**
+	 * Returns the index of the allele and adds it to the palette if it is not part of it.
+	 * New indices are synced to all players.
+	 */
+	public synchronized int getOrAddIndex(IAllele allele) {
+		String uid = allele.getUID();
+		int index = indices.getInt(uid);
+		if (index == MISSING_INDEX) {
+			index = uids.size();
+			addUid(uid);
+			markDirty();
+
+			MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+			if (server != null) {
+				PacketAllelePaletteSync packet = new PacketAllelePaletteSync(paletteId, index, uids.subList(index, index + 1));
+				Forestry.getPacketHandler().sendPacket(packet.getPacket(), server.getPlayerList().getPlayers());
+			}
+		}
+		return index;
+	}
+
+	@Nullable
+	public synchronized IAllele getAllele(int index) {
+		if (index < 0 || index >= uids.size()) {
+			return null;
+		}
+		return AlleleManager.alleleRegistry.getAllele(uids.get(index));
+	}
+
+	/**
+	 * Adds the uids that were synced from the server.
+	 * The entries before the start index are already known to this palette.
+	 */
+	public synchronized void addUids(int startIndex, List<String> newUids) {
+		for (int i = 0; i < newUids.size(); i++) {
+			if (startIndex + i == uids.size()) {
+				addUid(newUids.get(i));
+			}
+		}
+	}
+
+	public synchronized List<String> getUids() {
+		return new ArrayList<>(uids);
+	}
+
+	private void addUid(String uid) {
+		indices.put(uid, uids.size());
+		uids.add(uid);
+	}
+
+	/* SAVING & LOADING */
+	@Override
+	public synchronized void readFromNBT(NBTTagCompound nbt) {
+		paletteId = nbt.getLong(ID_KEY);
+		uids.clear();
+		indices.clear();
+		NBTTagList uidList = nbt.getTagList(UIDS_KEY, Constants.NBT.TAG_STRING);
+		for (int i = 0; i < uidList.tagCount(); i++) {
+			addUid(uidList.getStringTagAt(i));
+		}
+	}
+
+	@Override
+	public synchronized NBTTagCompound writeToNBT(NBTTagCompound nbt) {
+		nbt.setLong(ID_KEY, paletteId);
+		NBTTagList uidList = new NBTTagList();
+		for (String uid : uids) {
+			uidList.appendTag(new NBTTagString(uid));
+		}
+		nbt.setTag(UIDS_KEY, uidList);
+		return nbt;
+	}
+}
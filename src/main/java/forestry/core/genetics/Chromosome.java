@@ -11,7 +11,9 @@
 package forestry.core.genetics;
 
 import javax.annotation.Nullable;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.minecraft.nbt.NBTTagCompound;
 
@@ -20,10 +22,16 @@ import forestry.api.genetics.IAllele;
 import forestry.api.genetics.IChromosome;
 import forestry.api.genetics.IChromosomeType;
 import forestry.api.genetics.ISpeciesRoot;
+import forestry.core.genetics.alleles.AlleleRegistry;
 
 public class Chromosome implements IChromosome {
-	private static final String UID0_TAG = "UID0";
-	private static final String UID1_TAG = "UID1";
+	static final String UID0_TAG = "UID0";
+	static final String UID1_TAG = "UID1";
+
+	/**
+	 * Chromosomes are immutable, so every combination of alleles only needs one instance.
+	 */
+	private static final Map<Long, Chromosome> internedChromosomes = new ConcurrentHashMap<>();
 
 	private final IAllele primary;
 	private final IAllele secondary;
@@ -32,10 +40,34 @@ public class Chromosome implements IChromosome {
 		IAllele primary = AlleleManager.alleleRegistry.getAllele(nbt.getString(UID0_TAG));
 		IAllele secondary = AlleleManager.alleleRegistry.getAllele(nbt.getString(UID1_TAG));
 
+		return create(primarySpeciesUid, secondarySpeciesUid, chromosomeType, primary, secondary);
+	}
+
+	/**
+	 * Creates a chromosome from alleles that were read from a saved genome.
+	 * Missing or invalid alleles are replaced by the allele of the species template.
+	 */
+	public static Chromosome create(@Nullable String primarySpeciesUid, @Nullable String secondarySpeciesUid, IChromosomeType chromosomeType, @Nullable IAllele primary, @Nullable IAllele secondary) {
 		primary = validateAllele(primarySpeciesUid, chromosomeType, primary);
 		secondary = validateAllele(secondarySpeciesUid, chromosomeType, secondary);
 
-		return new Chromosome(primary, secondary);
+		return of(primary, secondary);
+	}
+
+	/**
+	 * @return The shared chromosome instance for the given alleles.
+	 */
+	public static Chromosome of(IAllele allele) {
+		return of(allele, allele);
+	}
+
+	/**
+	 * @return The shared chromosome instance for the given alleles.
+	 */
+	public static Chromosome of(IAllele primary, IAllele secondary) {
+		AlleleRegistry alleleRegistry = (AlleleRegistry) AlleleManager.alleleRegistry;
+		long key = (long) alleleRegistry.getAlleleId(primary) << 32 | alleleRegistry.getAlleleId(secondary) & 0xFFFFFFFFL;
+		return internedChromosomes.computeIfAbsent(key, k -> new Chromosome(primary, secondary));
 	}
 
 	private static IAllele validateAllele(@Nullable String speciesUid, IChromosomeType chromosomeType, @Nullable IAllele allele) {
@@ -125,9 +157,9 @@ public class Chromosome implements IChromosome {
 		}
 
 		if (rand.nextBoolean()) {
-			return new Chromosome(choice1, choice2);
+			return of(choice1, choice2);
 		} else {
-			return new Chromosome(choice2, choice1);
+			return of(choice2, choice1);
 		}
 	}
 
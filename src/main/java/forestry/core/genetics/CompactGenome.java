@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import java.util.Arrays;
+
+import forestry.api.genetics.AlleleManager;
+import forestry.api.genetics.IChromosome;
+import forestry.core.genetics.alleles.AlleleRegistry;
+
+/**
+ * The alleles of a genome, stored as the ids that the {@link AlleleRegistry} assigned to them.
+ * <p>
+ * All instances are interned, so genomes with the same alleles share one instance and one array of chromosomes.
+ * Two compact genomes are genetically equal if they are the same instance.
+ */
+public final class CompactGenome {
+	private static final Interner<CompactGenome> interner = Interners.newWeakInterner();
+	private static final int MISSING_ALLELE = -1;
+
+	/**
+	 * Contains the primary and the secondary allele id of every chromosome.
+	 */
+	private final int[] alleleIds;
+	private final IChromosome[] chromosomes;
+	private final int hashCode;
+
+	private CompactGenome(int[] alleleIds, IChromosome[] chromosomes) {
+		this.alleleIds = alleleIds;
+		this.chromosomes = chromosomes;
+		this.hashCode = Arrays.hashCode(alleleIds);
+	}
+
+	public static CompactGenome intern(IChromosome[] chromosomes) {
+		AlleleRegistry alleleRegistry = (AlleleRegistry) AlleleManager.alleleRegistry;
+		int[] alleleIds = new int[chromosomes.length * 2];
+		IChromosome[] internedChromosomes = new IChromosome[chromosomes.length];
+		for (int i = 0; i < chromosomes.length; i++) {
+			IChromosome chromosome = chromosomes[i];
+			if (chromosome == null) {
+				alleleIds[i * 2] = MISSING_ALLELE;
+				alleleIds[i * 2 + 1] = MISSING_ALLELE;
+			} else {
+				alleleIds[i * 2] = alleleRegistry.getAlleleId(chromosome.getPrimaryAllele());
+				alleleIds[i * 2 + 1] = alleleRegistry.getAlleleId(chromosome.getSecondaryAllele());
+				internedChromosomes[i] = Chromosome.of(chromosome.getPrimaryAllele(), chromosome.getSecondaryAllele());
+			}
+		}
+		return interner.intern(new CompactGenome(alleleIds, internedChromosomes));
+	}
+
+	/**
+	 * @return The shared chromosomes of this genome. The array must not be modified.
+	 */
+	IChromosome[] getChromosomes() {
+		return chromosomes;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof CompactGenome)) {
+			return false;
+		}
+		CompactGenome other = (CompactGenome) obj;
+		return hashCode == other.hashCode && Arrays.equals(alleleIds, other.alleleIds);
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+}
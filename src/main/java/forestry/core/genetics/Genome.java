@@ -14,31 +14,59 @@ import com.google.common.base.MoreObjects;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 
+import net.minecraftforge.common.util.Constants;
+
 import forestry.api.genetics.IAllele;
 import forestry.api.genetics.IAlleleSpecies;
 import forestry.api.genetics.IChromosome;
 import forestry.api.genetics.IChromosomeType;
 import forestry.api.genetics.IGenome;
 import forestry.api.genetics.ISpeciesRoot;
+import forestry.core.config.Config;
 import forestry.core.utils.Log;
 
 public abstract class Genome implements IGenome {
-	private static final String SLOT_TAG = "Slot";
+	static final String SLOT_TAG = "Slot";
+	static final String CHROMOSOMES_TAG = "Chromosomes";
+	/* COMPACT FORMAT */
+	static final String FORMAT_TAG = "Format";
+	static final String PALETTE_TAG = "Palette";
+	static final String ALLELES_TAG = "Alleles";
+	private static final byte COMPACT_FORMAT_VERSION = 1;
+	/**
+	 * The ids of the palettes that compact genomes were read with, but that are not the palette of this save.
+	 */
+	private static final Set<Long> foreignPaletteIds = new HashSet<>();
 
+	private final CompactGenome compactGenome;
+	/**
+	 * The chromosomes of the compact genome. They are shared with all genetically equal genomes.
+	 */
 	private final IChromosome[] chromosomes;
+	/**
+	 * The tag of a compact genome that could not be read with the palette of this side, see {@link #writeToNBT}.
+	 */
+	@Nullable
+	private final NBTTagCompound unreadableNBT;
 
 	protected Genome(NBTTagCompound nbttagcompound) {
-		this.chromosomes = getChromosomes(nbttagcompound, getSpeciesRoot());
+		this.compactGenome = GenomeCache.getGenome(nbttagcompound, getSpeciesRoot());
+		this.chromosomes = compactGenome.getChromosomes();
+		this.unreadableNBT = canReadCompletely(nbttagcompound) ? null : nbttagcompound.copy();
 	}
 
 	protected Genome(IChromosome[] chromosomes) {
 		checkChromosomes(chromosomes);
-		this.chromosomes = chromosomes;
+		this.compactGenome = CompactGenome.intern(chromosomes);
+		this.chromosomes = compactGenome.getChromosomes();
+		this.unreadableNBT = null;
 	}
 
 	private void checkChromosomes(IChromosome[] chromosomes) {
@@ -120,13 +148,18 @@ public abstract class Genome implements IGenome {
 			return null;
 		}
 
-		NBTTagList chromosomesNBT = genomeNBT.getTagList("Chromosomes", 10);
-		if (chromosomesNBT.isEmpty()) {
-			return null;
-		}
+		IChromosome chromosome;
+		if (isCompact(genomeNBT)) {
+			chromosome = GenomeCache.getGenome(genomeNBT, speciesRoot).getChromosomes()[speciesRoot.getSpeciesChromosomeType().ordinal()];
+		} else {
+			NBTTagList chromosomesNBT = genomeNBT.getTagList(CHROMOSOMES_TAG, 10);
+			if (chromosomesNBT.isEmpty()) {
+				return null;
+			}
 
-		NBTTagCompound chromosomeNBT = chromosomesNBT.getCompoundTagAt(0);
-		Chromosome chromosome = Chromosome.create(null, null, speciesRoot.getSpeciesChromosomeType(), chromosomeNBT);
+			NBTTagCompound chromosomeNBT = chromosomesNBT.getCompoundTagAt(0);
+			chromosome = Chromosome.create(null, null, speciesRoot.getSpeciesChromosomeType(), chromosomeNBT);
+		}
 
 		IAllele activeAllele = chromosome.getActiveAllele();
 		if (!(activeAllele instanceof IAlleleSpecies)) {
@@ -147,11 +180,11 @@ public abstract class Genome implements IGenome {
 		}
 
 		NBTTagCompound genomeNBT = nbtTagCompound.getCompoundTag("Genome");
-		if (genomeNBT.isEmpty()) {
+		if (genomeNBT.isEmpty() || isCompact(genomeNBT)) {
 			return null;
 		}
 
-		NBTTagList chromosomesNBT = genomeNBT.getTagList("Chromosomes", 10);
+		NBTTagList chromosomesNBT = genomeNBT.getTagList(CHROMOSOMES_TAG, 10);
 		if (chromosomesNBT.isEmpty()) {
 			return null;
 		}
@@ -181,14 +214,18 @@ public abstract class Genome implements IGenome {
 			nbtTagCompound.setTag("Genome", genomeNbt);
 		}
 
-		IChromosome[] chromosomes = getChromosomes(genomeNbt, speciesRoot);
+		CompactGenome genome = GenomeCache.getGenome(genomeNbt, speciesRoot);
 
-		return chromosomes[chromosomeType.ordinal()];
+		return genome.getChromosomes()[chromosomeType.ordinal()];
 	}
 
 
-	private static IChromosome[] getChromosomes(NBTTagCompound genomeNBT, ISpeciesRoot speciesRoot) {
-		NBTTagList chromosomesNBT = genomeNBT.getTagList("Chromosomes", 10);
+	static IChromosome[] getChromosomes(NBTTagCompound genomeNBT, ISpeciesRoot speciesRoot) {
+		if (isCompact(genomeNBT)) {
+			return getCompactChromosomes(genomeNBT, speciesRoot);
+		}
+
+		NBTTagList chromosomesNBT = genomeNBT.getTagList(CHROMOSOMES_TAG, 10);
 		IChromosome[] chromosomes = new IChromosome[speciesRoot.getDefaultTemplate().length];
 
 		String primarySpeciesUid = null;
@@ -212,6 +249,76 @@ public abstract class Genome implements IGenome {
 		return chromosomes;
 	}
 
+	static boolean isCompact(NBTTagCompound genomeNBT) {
+		return genomeNBT.hasKey(ALLELES_TAG, Constants.NBT.TAG_INT_ARRAY);
+	}
+
+	/**
+	 * @return False if the genome is compact and the palette of this side can not resolve all of its alleles yet.
+	 */
+	static boolean canReadCompletely(NBTTagCompound genomeNBT) {
+		if (!isCompact(genomeNBT)) {
+			return true;
+		}
+		AllelePalette palette = AllelePalette.getPalette();
+		if (genomeNBT.getByte(FORMAT_TAG) != COMPACT_FORMAT_VERSION || palette == null || palette.getPaletteId() != genomeNBT.getLong(PALETTE_TAG)) {
+			return false;
+		}
+		for (int index : genomeNBT.getIntArray(ALLELES_TAG)) {
+			if (index != AllelePalette.MISSING_INDEX && palette.getAllele(index) == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static IChromosome[] getCompactChromosomes(NBTTagCompound genomeNBT, ISpeciesRoot speciesRoot) {
+		IChromosome[] chromosomes = new IChromosome[speciesRoot.getDefaultTemplate().length];
+		int[] alleleIndices = genomeNBT.getIntArray(ALLELES_TAG);
+
+		AllelePalette palette = AllelePalette.getPalette();
+		if (palette == null) {
+			// the palette of the client is not synced yet
+			Log.debug("Could not find the allele palette of a compact genome, using the default template instead.");
+		} else if (genomeNBT.getByte(FORMAT_TAG) != COMPACT_FORMAT_VERSION || palette.getPaletteId() != genomeNBT.getLong(PALETTE_TAG)) {
+			long paletteId = genomeNBT.getLong(PALETTE_TAG);
+			boolean reported;
+			synchronized (foreignPaletteIds) {
+				reported = !foreignPaletteIds.add(paletteId);
+			}
+			if (!reported) {
+				Log.warning("Found a compact genome of another save (allele palette {}). It uses the default template of its species in this save, its original alleles are kept when it is saved again.", Long.toHexString(paletteId));
+			}
+			palette = null;
+		}
+
+		// the species is read first, so the other chromosomes can fall back to the template of the species
+		IChromosomeType speciesType = speciesRoot.getSpeciesChromosomeType();
+		Chromosome species = createCompactChromosome(palette, alleleIndices, null, null, speciesType);
+		chromosomes[speciesType.ordinal()] = species;
+		String primarySpeciesUid = species.getPrimaryAllele().getUID();
+		String secondarySpeciesUid = species.getSecondaryAllele().getUID();
+
+		IChromosomeType[] karyotype = speciesRoot.getKaryotype();
+		for (int i = 0; i < chromosomes.length; i++) {
+			if (i != speciesType.ordinal() && i * 2 + 1 < alleleIndices.length && alleleIndices[i * 2] != AllelePalette.MISSING_INDEX) {
+				chromosomes[i] = createCompactChromosome(palette, alleleIndices, primarySpeciesUid, secondarySpeciesUid, karyotype[i]);
+			}
+		}
+		return chromosomes;
+	}
+
+	private static Chromosome createCompactChromosome(@Nullable AllelePalette palette, int[] alleleIndices, @Nullable String primarySpeciesUid, @Nullable String secondarySpeciesUid, IChromosomeType chromosomeType) {
+		IAllele primary = null;
+		IAllele secondary = null;
+		int index = chromosomeType.ordinal() * 2;
+		if (palette != null && index + 1 < alleleIndices.length) {
+			primary = palette.getAllele(alleleIndices[index]);
+			secondary = palette.getAllele(alleleIndices[index + 1]);
+		}
+		return Chromosome.create(primarySpeciesUid, secondarySpeciesUid, chromosomeType, primary, secondary);
+	}
+
 	public static IAllele getAllele(ItemStack itemStack, IChromosomeType type, boolean active) {
 		IAllele allele = getSpeciesDirectly(itemStack, type, active);
 		if (allele == null) {
@@ -237,6 +344,24 @@ public abstract class Genome implements IGenome {
 
 	@Override
 	public NBTTagCompound writeToNBT(NBTTagCompound nbttagcompound) {
+		if (unreadableNBT != null) {
+			// keep the original alleles, so the genome can be read again once it is back in its own save
+			nbttagcompound.removeTag(CHROMOSOMES_TAG);
+			nbttagcompound.merge(unreadableNBT);
+			return nbttagcompound;
+		}
+		return writeChromosomes(nbttagcompound, chromosomes, Config.compactGenomeNbt);
+	}
+
+	private static NBTTagCompound writeChromosomes(NBTTagCompound nbttagcompound, IChromosome[] chromosomes, boolean compact) {
+		if (compact && writeCompactNBT(nbttagcompound, chromosomes)) {
+			return nbttagcompound;
+		}
+
+		nbttagcompound.removeTag(FORMAT_TAG);
+		nbttagcompound.removeTag(PALETTE_TAG);
+		nbttagcompound.removeTag(ALLELES_TAG);
+
 		NBTTagList nbttaglist = new NBTTagList();
 		for (int i = 0; i < chromosomes.length; i++) {
 			if (chromosomes[i] != null) {
@@ -246,10 +371,52 @@ public abstract class Genome implements IGenome {
 				nbttaglist.appendTag(nbttagcompound1);
 			}
 		}
-		nbttagcompound.setTag("Chromosomes", nbttaglist);
+		nbttagcompound.setTag(CHROMOSOMES_TAG, nbttaglist);
 		return nbttagcompound;
 	}
 
+	/**
+	 * Writes the genome as indices into the allele palette of the current side.
+	 *
+	 * @return False if the genome could not be written because the palette is not available or does not contain all alleles.
+	 */
+	private static boolean writeCompactNBT(NBTTagCompound nbttagcompound, IChromosome[] chromosomes) {
+		AllelePalette palette = AllelePalette.getPalette();
+		if (palette == null) {
+			return false;
+		}
+
+		boolean canAddAlleles = palette == AllelePalette.getServerPalette();
+		int[] alleleIndices = new int[chromosomes.length * 2];
+		for (int i = 0; i < chromosomes.length; i++) {
+			IChromosome chromosome = chromosomes[i];
+			if (chromosome == null) {
+				alleleIndices[i * 2] = AllelePalette.MISSING_INDEX;
+				alleleIndices[i * 2 + 1] = AllelePalette.MISSING_INDEX;
+				continue;
+			}
+
+			IAllele primary = chromosome.getPrimaryAllele();
+			IAllele secondary = chromosome.getSecondaryAllele();
+			if (canAddAlleles) {
+				alleleIndices[i * 2] = palette.getOrAddIndex(primary);
+				alleleIndices[i * 2 + 1] = palette.getOrAddIndex(secondary);
+			} else {
+				alleleIndices[i * 2] = palette.getIndex(primary);
+				alleleIndices[i * 2 + 1] = palette.getIndex(secondary);
+				if (alleleIndices[i * 2] == AllelePalette.MISSING_INDEX || alleleIndices[i * 2 + 1] == AllelePalette.MISSING_INDEX) {
+					return false;
+				}
+			}
+		}
+
+		nbttagcompound.removeTag(CHROMOSOMES_TAG);
+		nbttagcompound.setByte(FORMAT_TAG, COMPACT_FORMAT_VERSION);
+		nbttagcompound.setLong(PALETTE_TAG, palette.getPaletteId());
+		nbttagcompound.setIntArray(ALLELES_TAG, alleleIndices);
+		return true;
+	}
+
 	// / INFORMATION RETRIEVAL
 	@Override
 
@@ -270,6 +437,18 @@ public abstract class Genome implements IGenome {
 
 	@Override
 	public boolean isGeneticEqual(IGenome other) {
+		if (other instanceof Genome) {
+			Genome otherGenome = (Genome) other;
+			if (unreadableNBT != null || otherGenome.unreadableNBT != null) {
+				// the decoded alleles of an unreadable genome are only the template of its species
+				return unreadableNBT != null && unreadableNBT.equals(otherGenome.unreadableNBT);
+			}
+			return compactGenome == otherGenome.compactGenome;
+		}
+		if (unreadableNBT != null) {
+			return false;
+		}
+
 		IChromosome[] genetics = other.getChromosomes();
 		if (chromosomes.length != genetics.length) {
 			return false;
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+
+import forestry.api.genetics.ISpeciesRoot;
+
+/**
+ * Caches the decoded genomes of genome nbt tags.
+ * <p>
+ * The tags are cached by identity and are only weakly referenced, so the cache never keeps an item stack alive.
+ * Every entry remembers the tags it was decoded from. If the tag was mutated since then, the entry is decoded again.
+ * Compact genomes are only cached once the allele palette of the current side can resolve all of their alleles.
+ * Reading a tag never changes it, a tag is only converted to the configured format when its genome is written again.
+ */
+public class GenomeCache {
+	private static final int MAXIMUM_SIZE = 4096;
+	private static final int TAGS_PER_CHROMOSOME = 4;
+
+	private static final Cache<NBTTagCompound, CachedGenome> cache = CacheBuilder.newBuilder()
+		.weakKeys()
+		.maximumSize(MAXIMUM_SIZE)
+		.build();
+
+	private static final AtomicLong hits = new AtomicLong();
+	private static final AtomicLong misses = new AtomicLong();
+	private static final AtomicLong invalidations = new AtomicLong();
+
+	private GenomeCache() {
+	}
+
+	public static CompactGenome getGenome(NBTTagCompound genomeNBT, ISpeciesRoot speciesRoot) {
+		CachedGenome cachedGenome = cache.getIfPresent(genomeNBT);
+		if (cachedGenome != null) {
+			if (cachedGenome.speciesRoot == speciesRoot && cachedGenome.isValid(genomeNBT)) {
+				hits.incrementAndGet();
+				return cachedGenome.genome;
+			}
+			invalidations.incrementAndGet();
+		}
+		misses.incrementAndGet();
+
+		boolean cacheable = Genome.canReadCompletely(genomeNBT);
+		CompactGenome genome = CompactGenome.intern(Genome.getChromosomes(genomeNBT, speciesRoot));
+		if (cacheable) {
+			cache.put(genomeNBT, new CachedGenome(genomeNBT, speciesRoot, genome));
+		}
+		return genome;
+	}
+
+	public static long getHits() {
+		return hits.get();
+	}
+
+	public static long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * @return The count of cache entries that had to be decoded again because their tag was mutated.
+	 */
+	public static long getInvalidations() {
+		return invalidations.get();
+	}
+
+	public static long getSize() {
+		return cache.size();
+	}
+
+	public static void clear() {
+		cache.invalidateAll();
+		hits.set(0);
+		misses.set(0);
+		invalidations.set(0);
+	}
+
+	private static final class CachedGenome {
+		private final ISpeciesRoot speciesRoot;
+		private final CompactGenome genome;
+		@Nullable
+		private final NBTBase chromosomesNBT;
+		@Nullable
+		private final NBTBase allelesNBT;
+		@Nullable
+		private final NBTBase paletteNBT;
+		/**
+		 * The chromosome compounds and their slot and allele tags at the time the genome was decoded.
+		 * Every mutation of a tag through the nbt api replaces at least one of these instances.
+		 */
+		private final NBTBase[] chromosomeTags;
+
+		private CachedGenome(NBTTagCompound genomeNBT, ISpeciesRoot speciesRoot, CompactGenome genome) {
+			this.speciesRoot = speciesRoot;
+			this.genome = genome;
+			this.chromosomesNBT = genomeNBT.getTag(Genome.CHROMOSOMES_TAG);
+			this.allelesNBT = genomeNBT.getTag(Genome.ALLELES_TAG);
+			this.paletteNBT = genomeNBT.getTag(Genome.PALETTE_TAG);
+
+			if (chromosomesNBT instanceof NBTTagList) {
+				NBTTagList chromosomesList = (NBTTagList) chromosomesNBT;
+				chromosomeTags = new NBTBase[chromosomesList.tagCount() * TAGS_PER_CHROMOSOME];
+				for (int i = 0; i < chromosomesList.tagCount(); i++) {
+					NBTBase chromosomeNBT = chromosomesList.get(i);
+					chromosomeTags[i * TAGS_PER_CHROMOSOME] = chromosomeNBT;
+					if (chromosomeNBT instanceof NBTTagCompound) {
+						NBTTagCompound chromosomeCompound = (NBTTagCompound) chromosomeNBT;
+						chromosomeTags[i * TAGS_PER_CHROMOSOME + 1] = chromosomeCompound.getTag(Genome.SLOT_TAG);
+						chromosomeTags[i * TAGS_PER_CHROMOSOME + 2] = chromosomeCompound.getTag(Chromosome.UID0_TAG);
+						chromosomeTags[i * TAGS_PER_CHROMOSOME + 3] = chromosomeCompound.getTag(Chromosome.UID1_TAG);
+					}
+				}
+			} else {
+				chromosomeTags = new NBTBase[0];
+			}
+		}
+
+		private boolean isValid(NBTTagCompound genomeNBT) {
+			if (genomeNBT.getTag(Genome.ALLELES_TAG) != allelesNBT || genomeNBT.getTag(Genome.PALETTE_TAG) != paletteNBT) {
+				return false;
+			}
+
+			NBTBase currentChromosomesNBT = genomeNBT.getTag(Genome.CHROMOSOMES_TAG);
+			if (currentChromosomesNBT != chromosomesNBT) {
+				return false;
+			}
+			if (!(currentChromosomesNBT instanceof NBTTagList)) {
+				return true;
+			}
+
+			NBTTagList chromosomesList = (NBTTagList) currentChromosomesNBT;
+			if (chromosomesList.tagCount() * TAGS_PER_CHROMOSOME != chromosomeTags.length) {
+				return false;
+			}
+			for (int i = 0; i < chromosomesList.tagCount(); i++) {
+				NBTBase chromosomeNBT = chromosomesList.get(i);
+				if (chromosomeNBT != chromosomeTags[i * TAGS_PER_CHROMOSOME]) {
+					return false;
+				}
+				if (chromosomeNBT instanceof NBTTagCompound) {
+					NBTTagCompound chromosomeCompound = (NBTTagCompound) chromosomeNBT;
+					if (chromosomeCompound.getTag(Genome.SLOT_TAG) != chromosomeTags[i * TAGS_PER_CHROMOSOME + 1]
+						|| chromosomeCompound.getTag(Chromosome.UID0_TAG) != chromosomeTags[i * TAGS_PER_CHROMOSOME + 2]
+						|| chromosomeCompound.getTag(Chromosome.UID1_TAG) != chromosomeTags[i * TAGS_PER_CHROMOSOME + 3]) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import forestry.api.genetics.AlleleManager;
+import forestry.api.genetics.IAllele;
+import forestry.api.genetics.IAlleleSpecies;
+import forestry.api.genetics.IMutation;
+import forestry.core.genetics.alleles.AlleleRegistry;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+/**
+ * An immutable lookup table of the mutations of a species root.
+ * <p>
+ * The mutations are indexed by the unordered pair of their parent species, by every parent species and by the
+ * species of their result. All alleles are identified by the id that the {@link AlleleRegistry} assigned to them.
+ */
+public final class MutationIndex {
+	private static final IMutation[] NO_MUTATIONS = new IMutation[0];
+
+	private final int mutationCount;
+	private final Long2ObjectMap<IMutation[]> mutationsByPair;
+	private final Int2ObjectMap<IMutation[]> mutationsByParent;
+	private final Int2ObjectMap<IMutation[]> mutationsByResult;
+
+	private MutationIndex(int mutationCount, Long2ObjectMap<IMutation[]> mutationsByPair, Int2ObjectMap<IMutation[]> mutationsByParent, Int2ObjectMap<IMutation[]> mutationsByResult) {
+		this.mutationCount = mutationCount;
+		this.mutationsByPair = mutationsByPair;
+		this.mutationsByParent = mutationsByParent;
+		this.mutationsByResult = mutationsByResult;
+	}
+
+	public static MutationIndex create(Collection<? extends IMutation> mutations, int speciesIndex) {
+		AlleleRegistry alleleRegistry = (AlleleRegistry) AlleleManager.alleleRegistry;
+		Long2ObjectMap<List<IMutation>> byPair = new Long2ObjectOpenHashMap<>();
+		Int2ObjectMap<List<IMutation>> byParent = new Int2ObjectOpenHashMap<>();
+		Int2ObjectMap<List<IMutation>> byResult = new Int2ObjectOpenHashMap<>();
+
+		for (IMutation mutation : mutations) {
+			int allele0 = alleleRegistry.getAlleleId(mutation.getAllele0());
+			int allele1 = alleleRegistry.getAlleleId(mutation.getAllele1());
+			add(byPair, getPairKey(allele0, allele1), mutation);
+			add(byParent, allele0, mutation);
+			if (allele1 != allele0) {
+				add(byParent, allele1, mutation);
+			}
+
+			IAllele[] template = mutation.getTemplate();
+			if (template != null && template.length > speciesIndex && template[speciesIndex] != null) {
+				add(byResult, alleleRegistry.getAlleleId(template[speciesIndex]), mutation);
+			}
+		}
+
+		return new MutationIndex(mutations.size(), toArrays(byPair), toArrays(byParent), toArrays(byResult));
+	}
+
+	/**
+	 * @return The count of mutations this index was created from.
+	 */
+	public int getMutationCount() {
+		return mutationCount;
+	}
+
+	/**
+	 * @return The mutations of the two parent species, in any order. The array is shared and must not be modified.
+	 */
+	public IMutation[] getMutations(IAlleleSpecies parentSpecies0, IAlleleSpecies parentSpecies1) {
+		AlleleRegistry alleleRegistry = (AlleleRegistry) AlleleManager.alleleRegistry;
+		long key = getPairKey(alleleRegistry.getAlleleId(parentSpecies0), alleleRegistry.getAlleleId(parentSpecies1));
+		IMutation[] mutations = mutationsByPair.get(key);
+		return mutations != null ? mutations : NO_MUTATIONS;
+	}
+
+	/**
+	 * @return The mutations that have the allele as one of their parents. The array is shared and must not be modified.
+	 */
+	public IMutation[] getMutationsWithParent(IAllele parent) {
+		IMutation[] mutations = mutationsByParent.get(((AlleleRegistry) AlleleManager.alleleRegistry).getAlleleId(parent));
+		return mutations != null ? mutations : NO_MUTATIONS;
+	}
+
+	/**
+	 * @return The mutations that result in the species. The array is shared and must not be modified.
+	 */
+	public IMutation[] getMutationsWithResult(IAllele result) {
+		IMutation[] mutations = mutationsByResult.get(((AlleleRegistry) AlleleManager.alleleRegistry).getAlleleId(result));
+		return mutations != null ? mutations : NO_MUTATIONS;
+	}
+
+	/**
+	 * Returns the position of the n-th element of a random order of the mutations.
+	 * <p>
+	 * The order starts at a random element and advances by a random step that is coprime to the length, so every
+	 * element is visited exactly once without allocating a shuffled copy.
+	 *
+	 * @param start The start that was returned by {@link #getRandomStart(Random, int)}
+	 * @param step  The step that was returned by {@link #getRandomStep(Random, int)}
+	 */
+	public static int getRandomOrderIndex(int start, int step, int n, int length) {
+		return (int) ((start + (long) step * n) % length);
+	}
+
+	public static int getRandomStart(Random random, int length) {
+		return length > 1 ? random.nextInt(length) : 0;
+	}
+
+	public static int getRandomStep(Random random, int length) {
+		if (length <= 2) {
+			return 1;
+		}
+		int step = 1 + random.nextInt(length - 1);
+		while (gcd(step, length) != 1) {
+			step = step % (length - 1) + 1;
+		}
+		return step;
+	}
+
+	private static int gcd(int a, int b) {
+		while (b != 0) {
+			int remainder = a % b;
+			a = b;
+			b = remainder;
+		}
+		return a;
+	}
+
+	private static long getPairKey(int allele0, int allele1) {
+		int low = Math.min(allele0, allele1);
+		int high = Math.max(allele0, allele1);
+		return (long) high << 32 | low & 0xFFFFFFFFL;
+	}
+
+	private static void add(Long2ObjectMap<List<IMutation>> map, long key, IMutation mutation) {
+		List<IMutation> list = map.get(key);
+		if (list == null) {
+			list = new ArrayList<>();
+			map.put(key, list);
+		}
+		list.add(mutation);
+	}
+
+	private static void add(Int2ObjectMap<List<IMutation>> map, int key, IMutation mutation) {
+		List<IMutation> list = map.get(key);
+		if (list == null) {
+			list = new ArrayList<>();
+			map.put(key, list);
+		}
+		list.add(mutation);
+	}
+
+	private static Long2ObjectMap<IMutation[]> toArrays(Long2ObjectMap<List<IMutation>> map) {
+		Long2ObjectMap<IMutation[]> arrays = new Long2ObjectOpenHashMap<>(map.size());
+		for (Long2ObjectMap.Entry<List<IMutation>> entry : map.long2ObjectEntrySet()) {
+			arrays.put(entry.getLongKey(), entry.getValue().toArray(NO_MUTATIONS));
+		}
+		return arrays;
+	}
+
+	private static Int2ObjectMap<IMutation[]> toArrays(Int2ObjectMap<List<IMutation>> map) {
+		Int2ObjectMap<IMutation[]> arrays = new Int2ObjectOpenHashMap<>(map.size());
+		for (Int2ObjectMap.Entry<List<IMutation>> entry : map.int2ObjectEntrySet()) {
+			arrays.put(entry.getIntKey(), entry.getValue().toArray(NO_MUTATIONS));
+		}
+		return arrays;
+	}
+}
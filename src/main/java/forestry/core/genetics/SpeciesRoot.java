@@ -128,55 +128,58 @@ public abstract class SpeciesRoot implements ISpeciesRoot {
 	}
 
 	/* MUTATIONS */
-	@Override
-	public List<IMutation> getCombinations(IAllele other) {
-		List<IMutation> combinations = new ArrayList<>();
-		for (IMutation mutation : getMutations(false)) {
-			if (mutation.isPartner(other)) {
-				combinations.add(mutation);
-			}
+	@Nullable
+	private volatile MutationIndex mutationIndex;
+
+	/**
+	 * @return The lookup table of the registered mutations. It is created on first use and after every registration.
+	 */
+	public MutationIndex getMutationIndex() {
+		MutationIndex index = mutationIndex;
+		if (index == null) {
+			index = rebuildMutationIndex();
 		}
+		return index;
+	}
 
-		return combinations;
+	public MutationIndex rebuildMutationIndex() {
+		MutationIndex index = MutationIndex.create(getMutations(false), getSpeciesChromosomeType().ordinal());
+		mutationIndex = index;
+		return index;
+	}
+
+	/**
+	 * Has to be called every time a mutation was added to the mutations of this root.
+	 */
+	protected void invalidateMutationIndex() {
+		mutationIndex = null;
 	}
 
 	@Override
-	public List<? extends IMutation> getResultantMutations(IAllele other) {
-		List<IMutation> mutations = new ArrayList<>();
-		int speciesIndex = getSpeciesChromosomeType().ordinal();
-		for (IMutation mutation : getMutations(false)) {
-			IAllele[] template = mutation.getTemplate();
-			if (template == null || template.length <= speciesIndex) {
-				continue;
-			}
-			IAllele speciesAllele = template[speciesIndex];
-			if (speciesAllele == other) {
-				mutations.add(mutation);
-			}
-		}
+	public List<IMutation> getCombinations(IAllele other) {
+		return new ArrayList<>(Arrays.asList(getMutationIndex().getMutationsWithParent(other)));
+	}
 
-		return mutations;
+	@Override
+	public List<? extends IMutation> getResultantMutations(IAllele other) {
+		return new ArrayList<>(Arrays.asList(getMutationIndex().getMutationsWithResult(other)));
 	}
 
 	@Override
 	public List<IMutation> getCombinations(IAlleleSpecies parentSpecies0, IAlleleSpecies parentSpecies1, boolean shuffle) {
-		List<IMutation> combinations = new ArrayList<>();
-
-		String parentSpecies1UID = parentSpecies1.getUID();
-		for (IMutation mutation : getMutations(shuffle)) {
-			if (mutation.isPartner(parentSpecies0)) {
-				IAllele partner = mutation.getPartner(parentSpecies0);
-				if (partner.getUID().equals(parentSpecies1UID)) {
-					combinations.add(mutation);
-				}
-			}
+		List<IMutation> combinations = new ArrayList<>(Arrays.asList(getMutationIndex().getMutations(parentSpecies0, parentSpecies1)));
+		if (shuffle) {
+			Collections.shuffle(combinations);
 		}
-
 		return combinations;
 	}
 
 	@Override
 	public Collection<? extends IMutation> getPaths(IAllele result, IChromosomeType chromosomeType) {
+		if (chromosomeType == getSpeciesChromosomeType()) {
+			return new ArrayList<>(Arrays.asList(getMutationIndex().getMutationsWithResult(result)));
+		}
+
 		ArrayList<IMutation> paths = new ArrayList<>();
 		for (IMutation mutation : getMutations(false)) {
 			if (mutation.getTemplate()[chromosomeType.ordinal()] == result) {
@@ -193,7 +196,7 @@ public abstract class SpeciesRoot implements ISpeciesRoot {
 		Chromosome[] chromosomes = new Chromosome[template.length];
 		for (int i = 0; i < template.length; i++) {
 			if (template[i] != null) {
-				chromosomes[i] = new Chromosome(template[i]);
+				chromosomes[i] = Chromosome.of(template[i]);
 			}
 		}
 
@@ -205,7 +208,7 @@ public abstract class SpeciesRoot implements ISpeciesRoot {
 		Chromosome[] chromosomes = new Chromosome[templateActive.length];
 		for (int i = 0; i < templateActive.length; i++) {
 			if (templateActive[i] != null) {
-				chromosomes[i] = new Chromosome(templateActive[i], templateInactive[i]);
+				chromosomes[i] = Chromosome.of(templateActive[i], templateInactive[i]);
 			}
 		}
 
@@ -20,6 +20,8 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import net.minecraft.item.ItemStack;
 
@@ -52,6 +54,10 @@ public class AlleleRegistry implements IAlleleRegistry {
 	private final LinkedHashMap<String, IClassification> classificationMap = new LinkedHashMap<>(128);
 	private final LinkedHashMap<String, IFruitFamily> fruitMap = new LinkedHashMap<>(64);
 
+	/* ALLELE IDS */
+	private final Map<String, Integer> alleleIds = new ConcurrentHashMap<>(ALLELE_ARRAY_SIZE);
+	private final AtomicInteger nextAlleleId = new AtomicInteger();
+
 	/*
 	 * Internal Set of all alleleHandlers, which trigger when an allele or branch is registered
 	 */
@@ -157,6 +163,7 @@ public class AlleleRegistry implements IAlleleRegistry {
 		addValidAlleleTypes(allele, chromosomeTypes);
 
 		alleleMap.put(allele.getUID(), allele);
+		getAlleleId(allele);
 		if (allele instanceof IAlleleSpecies) {
 			IClassification branch = ((IAlleleSpecies) allele).getBranch();
 			branch.addMemberSpecies((IAlleleSpecies) allele);
@@ -199,6 +206,18 @@ public class AlleleRegistry implements IAlleleRegistry {
 		return allele;
 	}
 
+	/**
+	 * @return A numeric id for the uid of the allele. The id is only valid for the current session.
+	 * Alleles that were not registered get their id on their first use.
+	 */
+	public int getAlleleId(IAllele allele) {
+		Integer alleleId = alleleIds.get(allele.getUID());
+		if (alleleId == null) {
+			alleleId = alleleIds.computeIfAbsent(allele.getUID(), uid -> nextAlleleId.getAndIncrement());
+		}
+		return alleleId;
+	}
+
 	@Override
 	public Collection<IAllele> getRegisteredAlleles(IChromosomeType type) {
 		return Collections.unmodifiableSet(allelesByType.get(type));
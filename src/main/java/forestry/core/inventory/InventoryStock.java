@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.inventory;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.NonNullList;
+
+import net.minecraftforge.oredict.OreDictionary;
+
+import forestry.core.utils.ItemStackUtil;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+
+/**
+ * Counts the items of an inventory by item, metadata and tag, so machines can check if the inventory contains the sets
+ * of a recipe without condensing all of its stacks again.
+ * <p>
+ * The counts are sorted by item and by the ore ids of the items. They are updated before every check, but only for the
+ * slots whose stack differs from the stack that was counted last time. The slots are compared instead of relying on
+ * change notifications, because the stacks of an inventory can be changed in place.
+ * <p>
+ * The checks give the same results as {@link ItemStackUtil#containsSets}.
+ */
+public class InventoryStock {
+	private final IInventory inventory;
+	private ItemStack[] counted = new ItemStack[0];
+	private final Map<Item, List<ItemStack>> items = new HashMap<>();
+	private final Int2ObjectMap<List<ItemStack>> ores = new Int2ObjectOpenHashMap<>();
+
+	public InventoryStock(IInventory inventory) {
+		this.inventory = inventory;
+	}
+
+	/**
+	 * Counts how many full sets are contained in the inventory
+	 *
+	 * @see ItemStackUtil#containsSets(NonNullList, NonNullList, boolean, boolean)
+	 */
+	public int containsSets(NonNullList<ItemStack> set, boolean oreDictionary, boolean craftingTools) {
+		update();
+
+		int totalSets = 0;
+		for (ItemStack req : ItemStackUtil.condenseStacks(set)) {
+			int reqCount = 0;
+			for (ItemStack offer : getItemCandidates(req)) {
+				if (ItemStackUtil.isCraftingEquivalent(req, offer, oreDictionary, craftingTools)) {
+					reqCount = Math.max(reqCount, offer.getCount() / req.getCount());
+				}
+			}
+			if (oreDictionary) {
+				for (int oreId : OreDictionary.getOreIDs(req)) {
+					reqCount = Math.max(reqCount, getOreCount(oreId, req));
+				}
+			}
+
+			if (reqCount == 0) {
+				return 0;
+			} else if (totalSets == 0 || totalSets > reqCount) {
+				totalSets = reqCount;
+			}
+		}
+		return totalSets;
+	}
+
+	/**
+	 * Counts how many full sets are contained in the inventory
+	 *
+	 * @see ItemStackUtil#containsSets(NonNullList, NonNullList, NonNullList, boolean)
+	 */
+	public int containsSets(NonNullList<ItemStack> set, NonNullList<String> oreDicts, boolean craftingTools) {
+		update();
+
+		int totalSets = 0;
+		Pair<NonNullList<ItemStack>, NonNullList<String>> condensed = ItemStackUtil.condenseStacks(set, oreDicts);
+		NonNullList<ItemStack> condensedRequired = condensed.getLeft();
+		NonNullList<String> condensedRequiredDicts = condensed.getRight();
+		for (int y = 0; y < condensedRequired.size(); y++) {
+			ItemStack req = condensedRequired.get(y);
+			String oreDict = condensedRequiredDicts.get(y);
+			int reqCount = 0;
+			for (ItemStack offer : getItemCandidates(req)) {
+				if (ItemStackUtil.isCraftingEquivalent(req, offer, craftingTools)) {
+					reqCount = Math.max(reqCount, offer.getCount() / req.getCount());
+				}
+			}
+			if (oreDict != null && !oreDict.isEmpty()) {
+				reqCount = Math.max(reqCount, getOreCount(OreDictionary.getOreID(oreDict), req));
+			}
+
+			if (reqCount == 0) {
+				return 0;
+			} else if (totalSets == 0 || totalSets > reqCount) {
+				totalSets = reqCount;
+			}
+		}
+		return totalSets;
+	}
+
+	private List<ItemStack> getItemCandidates(ItemStack req) {
+		List<ItemStack> candidates = items.get(req.getItem());
+		return candidates != null ? candidates : Collections.emptyList();
+	}
+
+	private int getOreCount(int oreId, ItemStack req) {
+		int reqCount = 0;
+		List<ItemStack> candidates = ores.get(oreId);
+		if (candidates != null) {
+			for (ItemStack offer : candidates) {
+				reqCount = Math.max(reqCount, offer.getCount() / req.getCount());
+			}
+		}
+		return reqCount;
+	}
+
+	private void update() {
+		int size = inventory.getSizeInventory();
+		if (counted.length != size) {
+			items.clear();
+			ores.clear();
+			counted = new ItemStack[size];
+			for (int slot = 0; slot < size; slot++) {
+				counted[slot] = ItemStack.EMPTY;
+			}
+		}
+
+		for (int slot = 0; slot < size; slot++) {
+			ItemStack stack = inventory.getStackInSlot(slot);
+			if (!ItemStack.areItemStacksEqual(counted[slot], stack)) {
+				remove(counted[slot]);
+				add(stack);
+				counted[slot] = stack.copy();
+			}
+		}
+	}
+
+	private void add(ItemStack stack) {
+		if (stack.isEmpty()) {
+			return;
+		}
+		List<ItemStack> itemStacks = items.computeIfAbsent(stack.getItem(), item -> new ArrayList<>());
+		ItemStack existing = find(itemStacks, stack);
+		if (existing != null) {
+			existing.grow(stack.getCount());
+			return;
+		}
+
+		ItemStack total = stack.copy();
+		itemStacks.add(total);
+		for (int oreId : OreDictionary.getOreIDs(total)) {
+			ores.computeIfAbsent(oreId, id -> new ArrayList<>()).add(total);
+		}
+	}
+
+	private void remove(ItemStack stack) {
+		if (stack.isEmpty()) {
+			return;
+		}
+		List<ItemStack> itemStacks = items.get(stack.getItem());
+		ItemStack total = itemStacks != null ? find(itemStacks, stack) : null;
+		if (total == null) {
+			return;
+		}
+
+		total.shrink(stack.getCount());
+		if (total.isEmpty()) {
+			itemStacks.remove(total);
+			if (itemStacks.isEmpty()) {
+				items.remove(stack.getItem());
+			}
+			for (int oreId : OreDictionary.getOreIDs(stack)) {
+				List<ItemStack> oreStacks = ores.get(oreId);
+				if (oreStacks != null) {
+					oreStacks.remove(total);
+					if (oreStacks.isEmpty()) {
+						ores.remove(oreId);
+					}
+				}
+			}
+		}
+	}
+
+	@Nullable
+	private static ItemStack find(List<ItemStack> itemStacks, ItemStack stack) {
+		for (ItemStack total : itemStacks) {
+			if (total.getItemDamage() == stack.getItemDamage() && ItemStack.areItemStackTagsEqual(total, stack)) {
+				return total;
+			}
+		}
+		return null;
+	}
+}
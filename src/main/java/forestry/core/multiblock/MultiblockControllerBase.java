@@ -12,6 +12,7 @@ import java.util.Set;
 import net.minecraft.block.Block;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
@@ -25,6 +26,10 @@ import forestry.core.tiles.TileUtil;
 import forestry.core.utils.Log;
 import forestry.core.utils.Translator;
 
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
 /**
  * This class contains the base logic for "multiblock controllers". Conceptually, they are
  * meta-TileEntities. They govern the logic for an associated group of TileEntities.
@@ -84,6 +89,26 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 	@Nullable
 	private MultiblockValidationException lastValidationException;
 
+	/**
+	 * The positions of the parts of the last structure that passed the validation. Saved with the controller, so a
+	 * structure that loads again with exactly these parts can be assembled without validating every block.
+	 * Null if the structure changed since its last validation.
+	 */
+	@Nullable
+	private LongSet validatedParts;
+
+	private enum ValidatedPartsMatch {
+		/**
+		 * The connected parts are the validated parts.
+		 */
+		UNCHANGED,
+		/**
+		 * Some validated parts are missing, but all of them are in unloaded chunks.
+		 */
+		LOADING,
+		CHANGED
+	}
+
 	protected MultiblockControllerBase(World world) {
 		this.world = world;
 		this.connectedParts = new HashSet<>();
@@ -248,6 +273,14 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 			this.onMachinePaused();
 		}
 
+		if (!chunkUnloading) {
+			// The part was broken or replaced, the structure has to be validated again
+			validatedParts = null;
+		}
+
+		// Parts that are removed from a connected machine only need the full search if they could split it
+		boolean staysConnected = !chunkUnloading && !shouldCheckForDisconnections && isConnectedAround(part.getCoordinates());
+
 		// Strip out this part
 		onDetachBlock(part);
 		if (!connectedParts.remove(part)) {
@@ -256,6 +289,9 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 					"If you encounter anomalies, please tear down the reactor and rebuild it.",
 				world.isRemote ? "CLIENT" : "SERVER", part.hashCode(), partCoords.getX(), partCoords.getY(), partCoords.getZ());
 		}
+		if (staysConnected) {
+			shouldCheckForDisconnections = false;
+		}
 
 		if (connectedParts.isEmpty()) {
 			// Destroy/unregister
@@ -271,6 +307,85 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 		}
 	}
 
+	/**
+	 * Checks if the parts next to a removed part are still connected to each other by the parts in the 3x3x3 cube
+	 * around it. If they are, removing the part can not split this machine. The removed position itself is ignored.
+	 *
+	 * @return false if the removal may split the machine and the parts have to be searched.
+	 */
+	private boolean isConnectedAround(BlockPos removedPos) {
+		IChunkProvider chunkProvider = world.getChunkProvider();
+		BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+		boolean[] members = new boolean[27];
+		for (int x = -1; x <= 1; x++) {
+			for (int y = -1; y <= 1; y++) {
+				for (int z = -1; z <= 1; z++) {
+					if (x == 0 && y == 0 && z == 0) {
+						continue;
+					}
+					pos.setPos(removedPos.getX() + x, removedPos.getY() + y, removedPos.getZ() + z);
+					if (chunkProvider.getLoadedChunk(pos.getX() >> 4, pos.getZ() >> 4) == null) {
+						return false;
+					}
+					TileEntity tile = TileUtil.getTile(world, pos);
+					members[getCubeIndex(x, y, z)] = tile instanceof IMultiblockComponent && !tile.isInvalid() && connectedParts.contains(tile);
+				}
+			}
+		}
+
+		int start = -1;
+		int neighbors = 0;
+		for (EnumFacing facing : EnumFacing.VALUES) {
+			int index = getCubeIndex(facing.getXOffset(), facing.getYOffset(), facing.getZOffset());
+			if (members[index]) {
+				start = index;
+				neighbors++;
+			}
+		}
+		if (neighbors <= 1) {
+			return true;
+		}
+
+		// Visit the parts of the cube that are connected to one of the neighbors
+		boolean[] visited = new boolean[27];
+		int[] queue = new int[27];
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = start;
+		visited[start] = true;
+		while (head < tail) {
+			int index = queue[head++];
+			int x = index / 9 - 1;
+			int y = index / 3 % 3 - 1;
+			int z = index % 3 - 1;
+			for (EnumFacing facing : EnumFacing.VALUES) {
+				int nextX = x + facing.getXOffset();
+				int nextY = y + facing.getYOffset();
+				int nextZ = z + facing.getZOffset();
+				if (nextX < -1 || nextX > 1 || nextY < -1 || nextY > 1 || nextZ < -1 || nextZ > 1) {
+					continue;
+				}
+				int next = getCubeIndex(nextX, nextY, nextZ);
+				if (members[next] && !visited[next]) {
+					visited[next] = true;
+					queue[tail++] = next;
+				}
+			}
+		}
+
+		for (EnumFacing facing : EnumFacing.VALUES) {
+			int index = getCubeIndex(facing.getXOffset(), facing.getYOffset(), facing.getZOffset());
+			if (members[index] && !visited[index]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int getCubeIndex(int x, int y, int z) {
+		return (x + 1) * 9 + (y + 1) * 3 + z + 1;
+	}
+
 	@Override
 	public String getLastValidationError() {
 		if (lastValidationException == null) {
@@ -297,9 +412,37 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 	 */
 	protected abstract void isMachineWhole() throws MultiblockValidationException;
 
+	/**
+	 * Checks if a machine is whole when exactly the parts of its last valid structure are attached again, usually after
+	 * it was loaded. Checks of {@link #isMachineWhole()} that only depend on the parts may be skipped here, checks of
+	 * other blocks may not. If not whole, throws an exception with the reason why.
+	 */
+	protected void isMachineWholeWithValidatedParts() throws MultiblockValidationException {
+		isMachineWhole();
+	}
+
 	@Override
 	public void checkIfMachineIsWhole() {
 		AssemblyState oldState = this.assemblyState;
+		if (oldState != AssemblyState.Assembled && validatedParts != null) {
+			ValidatedPartsMatch match = matchValidatedParts();
+			if (match == ValidatedPartsMatch.LOADING) {
+				// The missing parts mark this controller dirty again once their chunks load
+				return;
+			} else if (match == ValidatedPartsMatch.UNCHANGED) {
+				lastValidationException = null;
+				try {
+					isMachineWholeWithValidatedParts();
+					assembleMachine(oldState);
+				} catch (MultiblockValidationException e) {
+					lastValidationException = e;
+					validatedParts = null;
+				}
+				return;
+			}
+			validatedParts = null;
+		}
+
 		boolean isWhole;
 		lastValidationException = null;
 		try {
@@ -328,7 +471,9 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 	private void assembleMachine(AssemblyState oldState) {
 		this.assemblyState = AssemblyState.Assembled;
 
+		validatedParts = new LongOpenHashSet(connectedParts.size());
 		for (IMultiblockComponent part : connectedParts) {
+			validatedParts.add(part.getCoordinates().toLong());
 			part.onMachineAssembled(this, getMinimumCoord(), getMaximumCoord());
 		}
 
@@ -347,6 +492,7 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 	 */
 	private void disassembleMachine() {
 		this.assemblyState = AssemblyState.Disassembled;
+		validatedParts = null;
 
 		for (IMultiblockComponent part : connectedParts) {
 			part.onMachineBroken();
@@ -355,6 +501,74 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 		onMachineDisassembled();
 	}
 
+	private ValidatedPartsMatch matchValidatedParts() {
+		LongSet validatedParts = this.validatedParts;
+		if (validatedParts == null || connectedParts.size() > validatedParts.size()) {
+			return ValidatedPartsMatch.CHANGED;
+		}
+
+		LongSet connectedPositions = new LongOpenHashSet(connectedParts.size());
+		for (IMultiblockComponent part : connectedParts) {
+			long position = part.getCoordinates().toLong();
+			if (!validatedParts.contains(position)) {
+				return ValidatedPartsMatch.CHANGED;
+			}
+			connectedPositions.add(position);
+		}
+
+		if (connectedPositions.size() == validatedParts.size()) {
+			return ValidatedPartsMatch.UNCHANGED;
+		}
+
+		// Only wait for the missing parts if they can not have been attached yet
+		IChunkProvider chunkProvider = world.getChunkProvider();
+		LongIterator iterator = validatedParts.iterator();
+		while (iterator.hasNext()) {
+			long position = iterator.nextLong();
+			if (!connectedPositions.contains(position)) {
+				BlockPos pos = BlockPos.fromLong(position);
+				if (chunkProvider.getLoadedChunk(pos.getX() >> 4, pos.getZ() >> 4) != null) {
+					return ValidatedPartsMatch.CHANGED;
+				}
+			}
+		}
+		return ValidatedPartsMatch.LOADING;
+	}
+
+	/**
+	 * Saves the parts of the last validated structure, see {@link #readValidatedParts(NBTTagCompound)}.
+	 */
+	protected void writeValidatedParts(NBTTagCompound data) {
+		if (validatedParts == null) {
+			return;
+		}
+		int[] positions = new int[validatedParts.size() * 3];
+		int index = 0;
+		LongIterator iterator = validatedParts.iterator();
+		while (iterator.hasNext()) {
+			BlockPos pos = BlockPos.fromLong(iterator.nextLong());
+			positions[index++] = pos.getX();
+			positions[index++] = pos.getY();
+			positions[index++] = pos.getZ();
+		}
+		data.setIntArray("validatedParts", positions);
+	}
+
+	/**
+	 * Restores the parts of the last validated structure. If exactly these parts are attached again after they were
+	 * loaded, the machine is assembled without a validation.
+	 */
+	protected void readValidatedParts(NBTTagCompound data) {
+		if (!data.hasKey("validatedParts")) {
+			return;
+		}
+		int[] positions = data.getIntArray("validatedParts");
+		validatedParts = new LongOpenHashSet(positions.length / 3);
+		for (int index = 0; index + 2 < positions.length; index += 3) {
+			validatedParts.add(new BlockPos(positions[index], positions[index + 1], positions[index + 2]).toLong());
+		}
+	}
+
 	@Override
 	public void assimilate(IMultiblockControllerInternal other) {
 		BlockPos otherReferenceCoord = other.getReferenceCoord();
@@ -364,6 +578,10 @@ public abstract class MultiblockControllerBase implements IMultiblockControllerI
 		}
 
 		Set<IMultiblockComponent> partsToAcquire = new HashSet<>(other.getComponents());
+		if (validatedParts == null && other instanceof MultiblockControllerBase) {
+			// The saved structure may have been loaded by the other controller
+			validatedParts = ((MultiblockControllerBase) other).validatedParts;
+		}
 
 		// releases all blocks and references gently so they can be incorporated into another multiblock
 		other._onAssimilated(this);
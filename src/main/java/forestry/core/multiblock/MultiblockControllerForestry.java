@@ -97,12 +97,14 @@ public abstract class MultiblockControllerForestry extends MultiblockControllerB
 	@Override
 	public NBTTagCompound writeToNBT(NBTTagCompound data) {
 		ownerHandler.writeToNBT(data);
+		writeValidatedParts(data);
 		return data;
 	}
 
 	@Override
 	public void readFromNBT(NBTTagCompound data) {
 		ownerHandler.readFromNBT(data);
+		readValidatedParts(data);
 	}
 
 	/* INVENTORY */
@@ -1,11 +1,13 @@
 package forestry.core.multiblock;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import net.minecraft.tileentity.TileEntity;
@@ -94,7 +96,8 @@ public class MultiblockWorldRegistry {
 		BlockPos coord;
 
 		// Merge pools - sets of adjacent machines which should be merged later on in processing
-		List<Set<IMultiblockControllerInternal>> mergePools = null;
+		// Every controller points to another controller of its pool, the controller that points to itself represents the pool
+		Map<IMultiblockControllerInternal, IMultiblockControllerInternal> mergeParents = null;
 		if (!orphanedParts.isEmpty()) {
 			Set<IMultiblockComponent> orphansToProcess = null;
 
@@ -141,49 +144,35 @@ public class MultiblockWorldRegistry {
 						newController.attachBlock(orphan);
 						this.controllers.add(newController);
 					} else if (compatibleControllers.size() > 1) {
-						if (mergePools == null) {
-							mergePools = new ArrayList<>();
+						if (mergeParents == null) {
+							mergeParents = new LinkedHashMap<>();
 						}
 
 						// THIS IS THE ONLY PLACE WHERE MERGES ARE DETECTED
 						// Multiple compatible controllers indicates an impending merge.
-						// Locate the appropriate merge pool(s)
-						List<Set<IMultiblockControllerInternal>> candidatePools = new ArrayList<>();
-						for (Set<IMultiblockControllerInternal> candidatePool : mergePools) {
-							if (!Collections.disjoint(candidatePool, compatibleControllers)) {
-								// They share at least one element, so that means they will all touch after the merge
-								candidatePools.add(candidatePool);
-							}
-						}
-
-						if (candidatePools.size() <= 0) {
-							// No pools nearby, create a new merge pool
-							mergePools.add(compatibleControllers);
-						} else if (candidatePools.size() == 1) {
-							// Only one pool nearby, simply add to that one
-							candidatePools.get(0).addAll(compatibleControllers);
-						} else {
-							// Multiple pools- merge into one, then add the compatible controllers
-							Set<IMultiblockControllerInternal> masterPool = candidatePools.get(0);
-							Set<IMultiblockControllerInternal> consumedPool;
-							for (int i = 1; i < candidatePools.size(); i++) {
-								consumedPool = candidatePools.get(i);
-								masterPool.addAll(consumedPool);
-								mergePools.remove(consumedPool);
-							}
-							masterPool.addAll(compatibleControllers);
+						// They touch each other after the merge, so their pools are joined into one
+						Iterator<IMultiblockControllerInternal> iterator = compatibleControllers.iterator();
+						IMultiblockControllerInternal first = iterator.next();
+						while (iterator.hasNext()) {
+							joinMergePools(mergeParents, first, iterator.next());
 						}
 					}
 				}
 			}
 		}
 
-		if (mergePools != null && !mergePools.isEmpty()) {
+		if (mergeParents != null && !mergeParents.isEmpty()) {
+			Map<IMultiblockControllerInternal, Set<IMultiblockControllerInternal>> mergePools = new LinkedHashMap<>();
+			for (IMultiblockControllerInternal controller : mergeParents.keySet()) {
+				IMultiblockControllerInternal root = findMergePool(mergeParents, controller);
+				mergePools.computeIfAbsent(root, k -> new HashSet<>()).add(controller);
+			}
+
 			// Process merges - any machines that have been marked for merge should be merged
 			// into the "master" machine.
 			// To do this, we combine lists of machines that are touching one another and therefore
 			// should voltron the fuck up.
-			for (Set<IMultiblockControllerInternal> mergePool : mergePools) {
+			for (Set<IMultiblockControllerInternal> mergePool : mergePools.values()) {
 				// Search for the new master machine, which will take over all the blocks contained in the other machines
 				IMultiblockControllerInternal newMaster = null;
 				for (IMultiblockControllerInternal controller : mergePool) {
@@ -268,6 +257,33 @@ public class MultiblockWorldRegistry {
 		detachedParts.clear();
 	}
 
+	/**
+	 * @return The controller that represents the merge pool of the given controller.
+	 */
+	private static IMultiblockControllerInternal findMergePool(Map<IMultiblockControllerInternal, IMultiblockControllerInternal> mergeParents, IMultiblockControllerInternal controller) {
+		IMultiblockControllerInternal parent = mergeParents.get(controller);
+		if (parent == null) {
+			mergeParents.put(controller, controller);
+			return controller;
+		}
+		while (parent != controller) {
+			// Let the controller skip its parent, so the next search is shorter
+			IMultiblockControllerInternal grandParent = mergeParents.get(parent);
+			mergeParents.put(controller, grandParent);
+			controller = grandParent;
+			parent = mergeParents.get(controller);
+		}
+		return controller;
+	}
+
+	private static void joinMergePools(Map<IMultiblockControllerInternal, IMultiblockControllerInternal> mergeParents, IMultiblockControllerInternal first, IMultiblockControllerInternal second) {
+		IMultiblockControllerInternal firstPool = findMergePool(mergeParents, first);
+		IMultiblockControllerInternal secondPool = findMergePool(mergeParents, second);
+		if (firstPool != secondPool) {
+			mergeParents.put(secondPool, firstPool);
+		}
+	}
+
 	///// Multiblock Connection Base Logic
 	private Set<IMultiblockControllerInternal> attachToNeighbors(IMultiblockComponent part) {
 		Set<IMultiblockControllerInternal> controllers = new HashSet<>();
@@ -125,6 +125,14 @@ public abstract class RectangularMultiblockControllerBase extends MultiblockCont
 		}
 	}
 
+	/**
+	 * The validated parts fill the same rectangular volume as before and no other blocks can be inside of it,
+	 * so the volume does not need to be checked again.
+	 */
+	@Override
+	protected void isMachineWholeWithValidatedParts() throws MultiblockValidationException {
+	}
+
 	protected IMultiblockSizeLimits getSizeLimits() {
 		return sizeLimits;
 	}
@@ -13,13 +13,17 @@ package forestry.core.network;
 import com.google.common.base.Preconditions;
 
 import java.io.IOException;
+import java.util.Collection;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.network.NetHandlerPlayServer;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.IThreadListener;
 
+import net.minecraftforge.common.util.FakePlayer;
+
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.network.FMLEventChannel;
 import net.minecraftforge.fml.common.network.FMLNetworkEvent.ClientCustomPacketEvent;
@@ -66,6 +70,26 @@ public class PacketHandler {
 		channel.sendTo(packet, player);
 	}
 
+	/**
+	 * Sends an already encoded packet to all given players.
+	 * Every player gets a duplicate of the payload that shares the encoded data, so the packet is never re-serialized.
+	 */
+	public void sendPacket(FMLProxyPacket packet, Collection<EntityPlayerMP> players) {
+		for (EntityPlayerMP player : players) {
+			if (player instanceof FakePlayer) {
+				continue;
+			}
+			channel.sendTo(copyPacket(packet), player);
+		}
+	}
+
+	/**
+	 * @return a packet with a duplicate of the payload of the given packet, that shares its encoded data.
+	 */
+	static FMLProxyPacket copyPacket(FMLProxyPacket packet) {
+		return new FMLProxyPacket(new PacketBuffer(packet.payload().duplicate()), packet.channel());
+	}
+
 	@SideOnly(Side.CLIENT)
 	private static void checkThreadAndEnqueue(final IForestryPacketHandlerClient packet, final PacketBufferForestry data, IThreadListener threadListener) {
 		if (!threadListener.isCallingFromMinecraftThread()) {
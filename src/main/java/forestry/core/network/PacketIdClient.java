@@ -35,12 +35,14 @@ public enum PacketIdClient implements IPacketId {
 
 	// Core Tile Entities
 	TILE_FORESTRY_UPDATE,
+	TILE_FORESTRY_UPDATE_BATCH,
 	ITEMSTACK_DISPLAY,
 	FX_SIGNAL,
 	TANK_LEVEL_UPDATE,
 
 	// Core Genome
 	GENOME_TRACKER_UPDATE,
+	ALLELE_PALETTE_SYNC,
 
 	// Factory
 	WORKTABLE_MEMORY_UPDATE,
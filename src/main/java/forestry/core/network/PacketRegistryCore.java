@@ -15,6 +15,7 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 
 import forestry.climatology.network.packets.PacketSelectClimateTargeted;
 import forestry.core.network.packets.PacketActiveUpdate;
+import forestry.core.network.packets.PacketAllelePaletteSync;
 import forestry.core.network.packets.PacketChipsetClick;
 import forestry.core.network.packets.PacketClimateListenerUpdate;
 import forestry.core.network.packets.PacketClimateListenerUpdateEntity;
@@ -37,6 +38,7 @@ import forestry.core.network.packets.PacketSocketUpdate;
 import forestry.core.network.packets.PacketSolderingIronClick;
 import forestry.core.network.packets.PacketTankLevelUpdate;
 import forestry.core.network.packets.PacketTileStream;
+import forestry.core.network.packets.PacketTileUpdateBatch;
 
 public class PacketRegistryCore implements IPacketRegistry {
 	@Override
@@ -61,11 +63,13 @@ public class PacketRegistryCore implements IPacketRegistry {
 		PacketIdClient.GUI_ENERGY.setPacketHandler(new PacketGuiEnergy.Handler());
 		PacketIdClient.SOCKET_UPDATE.setPacketHandler(new PacketSocketUpdate.Handler());
 		PacketIdClient.TILE_FORESTRY_UPDATE.setPacketHandler(new PacketTileStream.Handler());
+		PacketIdClient.TILE_FORESTRY_UPDATE_BATCH.setPacketHandler(new PacketTileUpdateBatch.Handler());
 		PacketIdClient.TILE_FORESTRY_ACTIVE.setPacketHandler(new PacketActiveUpdate.Handler());
 		PacketIdClient.ITEMSTACK_DISPLAY.setPacketHandler(new PacketItemStackDisplay.Handler());
 		PacketIdClient.FX_SIGNAL.setPacketHandler(new PacketFXSignal.Handler());
 		PacketIdClient.TANK_LEVEL_UPDATE.setPacketHandler(new PacketTankLevelUpdate.Handler());
 		PacketIdClient.GENOME_TRACKER_UPDATE.setPacketHandler(new PacketGenomeTrackerSync.Handler());
+		PacketIdClient.ALLELE_PALETTE_SYNC.setPacketHandler(new PacketAllelePaletteSync.Handler());
 		PacketIdClient.UPDATE_CLIMATE.setPacketHandler(new PacketClimateUpdate.Handler());
 		PacketIdClient.CLIMATE_LISTENER_UPDATE.setPacketHandler(new PacketClimateListenerUpdate.Handler());
 		PacketIdClient.CLIMATE_LISTENER_UPDATE_ENTITY.setPacketHandler(new PacketClimateListenerUpdateEntity.Handler());
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.network;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.Arrays;
+
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import io.netty.buffer.Unpooled;
+
+/**
+ * Sends the data of an {@link IStreamable} as a delta against the data that was sent the last time.
+ * <p>
+ * The data of the streamable is split into blocks of {@link #BLOCK_SIZE} bytes. A delta contains a bitmask of the blocks
+ * that changed since the last sync and only the content of these blocks. The client patches its copy of the last
+ * received data and reads the complete state from it.
+ * <p>
+ * The server side has to call {@link #invalidate()} every time the complete state is sent outside of this tracker,
+ * for example to a player that starts watching the chunk. The next sync is then a full one, so all clients share the
+ * same base again.
+ */
+public class StreamableDeltaTracker {
+	private static final int BLOCK_SIZE = 8;
+
+	@Nullable
+	private byte[] lastData;
+
+	public void invalidate() {
+		lastData = null;
+	}
+
+	public void writeData(IStreamable streamable, PacketBufferForestry data) {
+		PacketBufferForestry streamData = new PacketBufferForestry(Unpooled.buffer());
+		streamable.writeData(streamData);
+		byte[] newData = new byte[streamData.readableBytes()];
+		streamData.readBytes(newData);
+
+		byte[] previousData = lastData;
+		lastData = newData;
+
+		if (previousData == null) {
+			writeFullData(newData, data);
+			return;
+		}
+
+		int blockCount = getBlockCount(newData.length);
+		byte[] changedBlocks = new byte[(blockCount + 7) / 8];
+		int changedBytes = 0;
+		for (int block = 0; block < blockCount; block++) {
+			if (isBlockChanged(previousData, newData, block)) {
+				changedBlocks[block / 8] |= 1 << (block % 8);
+				changedBytes += getBlockLength(newData.length, block);
+			}
+		}
+
+		if (changedBlocks.length + changedBytes >= newData.length) {
+			writeFullData(newData, data);
+			return;
+		}
+
+		data.writeBoolean(false);
+		data.writeVarInt(newData.length);
+		data.writeBytes(changedBlocks);
+		for (int block = 0; block < blockCount; block++) {
+			if ((changedBlocks[block / 8] & 1 << (block % 8)) != 0) {
+				data.writeBytes(newData, block * BLOCK_SIZE, getBlockLength(newData.length, block));
+			}
+		}
+	}
+
+	@SideOnly(Side.CLIENT)
+	public void readData(IStreamable streamable, PacketBufferForestry data) throws IOException {
+		boolean full = data.readBoolean();
+		int length = data.readVarInt();
+		byte[] newData;
+		if (full) {
+			newData = new byte[length];
+			data.readBytes(newData);
+		} else {
+			if (lastData == null) {
+				throw new IOException("Received delta data without any previous full data.");
+			}
+			newData = Arrays.copyOf(lastData, length);
+			int blockCount = getBlockCount(length);
+			byte[] changedBlocks = new byte[(blockCount + 7) / 8];
+			data.readBytes(changedBlocks);
+			for (int block = 0; block < blockCount; block++) {
+				if ((changedBlocks[block / 8] & 1 << (block % 8)) != 0) {
+					data.readBytes(newData, block * BLOCK_SIZE, getBlockLength(length, block));
+				}
+			}
+		}
+		readFullData(streamable, newData);
+	}
+
+	/**
+	 * Reads the complete state of the streamable and uses it as the base for the following deltas.
+	 */
+	@SideOnly(Side.CLIENT)
+	public void readFullData(IStreamable streamable, byte[] fullData) throws IOException {
+		lastData = fullData;
+		streamable.readData(new PacketBufferForestry(Unpooled.wrappedBuffer(fullData)));
+	}
+
+	private static void writeFullData(byte[] newData, PacketBufferForestry data) {
+		data.writeBoolean(true);
+		data.writeVarInt(newData.length);
+		data.writeBytes(newData);
+	}
+
+	private static boolean isBlockChanged(byte[] previousData, byte[] newData, int block) {
+		int start = block * BLOCK_SIZE;
+		int end = start + getBlockLength(newData.length, block);
+		if (end > previousData.length) {
+			return true;
+		}
+		for (int i = start; i < end; i++) {
+			if (previousData[i] != newData[i]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static int getBlockCount(int length) {
+		return (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+	}
+
+	private static int getBlockLength(int length, int block) {
+		return Math.min(BLOCK_SIZE, length - block * BLOCK_SIZE);
+	}
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.network;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+
+import forestry.Forestry;
+import forestry.core.network.packets.PacketTileUpdateBatch;
+
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+/**
+ * Collects the tile update packets of one world during a tick and sends them at the end of the tick.
+ * <p>
+ * Updates are deduplicated by position and packet kind, so only the latest state of every tile is sent.
+ * All updates of a chunk are sent in one {@link PacketTileUpdateBatch} to the players that watch the chunk.
+ */
+public class TileUpdateQueue {
+	private static final Map<World, TileUpdateQueue> queues = new HashMap<>();
+
+	private final Long2ObjectMap<Map<UpdateKey, ForestryPacket>> pendingUpdates = new Long2ObjectOpenHashMap<>();
+
+	public static void enqueue(WorldServer world, BlockPos pos, ForestryPacket packet) {
+		TileUpdateQueue queue = queues.computeIfAbsent(world, k -> new TileUpdateQueue());
+		queue.enqueue(pos, packet);
+	}
+
+	public static void flush(WorldServer world) {
+		TileUpdateQueue queue = queues.get(world);
+		if (queue != null) {
+			queue.flushUpdates(world);
+		}
+	}
+
+	public static void onWorldUnloaded(World world) {
+		queues.remove(world);
+	}
+
+	private void enqueue(BlockPos pos, ForestryPacket packet) {
+		long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+		Map<UpdateKey, ForestryPacket> chunkUpdates = pendingUpdates.get(chunkKey);
+		if (chunkUpdates == null) {
+			chunkUpdates = new LinkedHashMap<>();
+			pendingUpdates.put(chunkKey, chunkUpdates);
+		}
+		UpdateKey key = new UpdateKey(pos.toImmutable(), packet.getPacketId());
+		// remove first so that the latest update is also sent last
+		chunkUpdates.remove(key);
+		chunkUpdates.put(key, packet);
+	}
+
+	private void flushUpdates(WorldServer world) {
+		if (pendingUpdates.isEmpty()) {
+			return;
+		}
+
+		PacketBufferForestry entryData = new PacketBufferForestry(Unpooled.buffer());
+		for (Long2ObjectMap.Entry<Map<UpdateKey, ForestryPacket>> entry : pendingUpdates.long2ObjectEntrySet()) {
+			long chunkKey = entry.getLongKey();
+			PlayerChunkMapEntry chunkEntry = world.getPlayerChunkMap().getEntry((int) chunkKey, (int) (chunkKey >> 32));
+			if (chunkEntry == null || !chunkEntry.isSentToPlayers()) {
+				continue;
+			}
+			List<EntityPlayerMP> watchingPlayers = chunkEntry.getWatchingPlayers();
+			if (watchingPlayers.isEmpty()) {
+				continue;
+			}
+
+			Map<UpdateKey, ForestryPacket> chunkUpdates = entry.getValue();
+			PacketBufferForestry data = new PacketBufferForestry(Unpooled.buffer());
+			data.writeVarInt(chunkUpdates.size());
+			for (ForestryPacket packet : chunkUpdates.values()) {
+				entryData.clear();
+				packet.writeData(entryData);
+
+				data.writeByte(packet.getPacketId().ordinal());
+				data.writeVarInt(entryData.readableBytes());
+				data.writeBytes(entryData);
+			}
+
+			PacketTileUpdateBatch batch = new PacketTileUpdateBatch(data);
+			Forestry.getPacketHandler().sendPacket(batch.getPacket(), watchingPlayers);
+		}
+		pendingUpdates.clear();
+	}
+
+	private static final class UpdateKey {
+		private final BlockPos pos;
+		private final IPacketId packetId;
+
+		private UpdateKey(BlockPos pos, IPacketId packetId) {
+			this.pos = pos;
+			this.packetId = packetId;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof UpdateKey)) {
+				return false;
+			}
+			UpdateKey other = (UpdateKey) obj;
+			return packetId == other.packetId && pos.equals(other.pos);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(pos, packetId);
+		}
+	}
+}
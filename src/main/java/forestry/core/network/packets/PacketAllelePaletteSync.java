@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.network.packets;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.entity.player.EntityPlayer;
+
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import forestry.core.genetics.AllelePalette;
+import forestry.core.network.ForestryPacket;
+import forestry.core.network.IForestryPacketClient;
+import forestry.core.network.IForestryPacketHandlerClient;
+import forestry.core.network.PacketBufferForestry;
+import forestry.core.network.PacketIdClient;
+
+/**
+ * Syncs the allele palette of the server. A start index of 0 replaces the palette of the client.
+ */
+public class PacketAllelePaletteSync extends ForestryPacket implements IForestryPacketClient {
+	private final long paletteId;
+	private final int startIndex;
+	private final List<String> uids;
+
+	public PacketAllelePaletteSync(long paletteId, int startIndex, List<String> uids) {
+		this.paletteId = paletteId;
+		this.startIndex = startIndex;
+		this.uids = uids;
+	}
+
+	@Override
+	public PacketIdClient getPacketId() {
+		return PacketIdClient.ALLELE_PALETTE_SYNC;
+	}
+
+	@Override
+	protected void writeData(PacketBufferForestry data) {
+		data.writeLong(paletteId);
+		data.writeVarInt(startIndex);
+		data.writeVarInt(uids.size());
+		for (String uid : uids) {
+			data.writeString(uid);
+		}
+	}
+
+	@SideOnly(Side.CLIENT)
+	public static class Handler implements IForestryPacketHandlerClient {
+		@Override
+		public void onPacketData(PacketBufferForestry data, EntityPlayer player) {
+			long paletteId = data.readLong();
+			int startIndex = data.readVarInt();
+			int size = data.readVarInt();
+			List<String> uids = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				uids.add(data.readString());
+			}
+
+			AllelePalette palette = AllelePalette.getClientPalette();
+			if (startIndex == 0 || palette == null || palette.getPaletteId() != paletteId) {
+				palette = AllelePalette.createClientPalette(paletteId);
+				AllelePalette.setClientPalette(palette);
+			}
+			palette.addUids(startIndex, uids);
+		}
+	}
+}
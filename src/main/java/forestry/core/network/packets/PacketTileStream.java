@@ -23,6 +23,7 @@ import forestry.core.network.ForestryPacket;
 import forestry.core.network.IForestryPacketClient;
 import forestry.core.network.IForestryPacketHandlerClient;
 import forestry.core.network.IStreamable;
+import forestry.core.network.IStreamableDelta;
 import forestry.core.network.PacketBufferForestry;
 import forestry.core.network.PacketIdClient;
 import forestry.core.tiles.TileUtil;
@@ -44,7 +45,13 @@ public class PacketTileStream extends ForestryPacket implements IForestryPacketC
 	@Override
 	protected void writeData(PacketBufferForestry data) {
 		data.writeBlockPos(pos);
-		streamable.writeData(data);
+		if (streamable instanceof IStreamableDelta) {
+			data.writeBoolean(true);
+			((IStreamableDelta) streamable).getDeltaTracker().writeData(streamable, data);
+		} else {
+			data.writeBoolean(false);
+			streamable.writeData(data);
+		}
 	}
 
 	@SideOnly(Side.CLIENT)
@@ -52,8 +59,13 @@ public class PacketTileStream extends ForestryPacket implements IForestryPacketC
 		@Override
 		public void onPacketData(PacketBufferForestry data, EntityPlayer player) throws IOException {
 			BlockPos pos = data.readBlockPos();
+			boolean delta = data.readBoolean();
 			IStreamable tile = TileUtil.getTile(player.world, pos, IStreamable.class);
-			if (tile != null) {
+			if (delta) {
+				if (tile instanceof IStreamableDelta) {
+					((IStreamableDelta) tile).getDeltaTracker().readData(tile, data);
+				}
+			} else if (tile != null) {
 				tile.readData(data);
 			}
 		}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.network.packets;
+
+import java.io.IOException;
+
+import net.minecraft.entity.player.EntityPlayer;
+
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import forestry.core.network.ForestryPacket;
+import forestry.core.network.IForestryPacketClient;
+import forestry.core.network.IForestryPacketHandlerClient;
+import forestry.core.network.PacketBufferForestry;
+import forestry.core.network.PacketIdClient;
+import forestry.core.network.TileUpdateQueue;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Contains all tile updates of one chunk that were collected by the {@link TileUpdateQueue} during a tick.
+ * Every entry is written as packet id, data length and the data of the original packet.
+ */
+public class PacketTileUpdateBatch extends ForestryPacket implements IForestryPacketClient {
+	private final ByteBuf entries;
+
+	public PacketTileUpdateBatch(ByteBuf entries) {
+		this.entries = entries;
+	}
+
+	@Override
+	public PacketIdClient getPacketId() {
+		return PacketIdClient.TILE_FORESTRY_UPDATE_BATCH;
+	}
+
+	@Override
+	protected void writeData(PacketBufferForestry data) {
+		data.writeBytes(entries, entries.readerIndex(), entries.readableBytes());
+	}
+
+	@SideOnly(Side.CLIENT)
+	public static class Handler implements IForestryPacketHandlerClient {
+		@Override
+		public void onPacketData(PacketBufferForestry data, EntityPlayer player) throws IOException {
+			int count = data.readVarInt();
+			for (int i = 0; i < count; i++) {
+				PacketIdClient packetId = PacketIdClient.VALUES[data.readByte()];
+				int length = data.readVarInt();
+				PacketBufferForestry entryData = new PacketBufferForestry(data.readSlice(length));
+				packetId.getPacketHandler().onPacketData(entryData, player);
+			}
+		}
+	}
+}
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.recipes;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import net.minecraftforge.oredict.OreDictionary;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+
+/**
+ * Finds the recipes of a recipe manager that can use an item without comparing the item with every recipe.
+ * <p>
+ * The recipes are sorted into buckets by the item and metadata of their inputs, with an extra bucket for the inputs
+ * with the wildcard metadata. Recipes that accept ore dictionary entries are sorted into buckets by their ore ids as
+ * well. The buckets only preselect the recipes, the caller still tests every candidate with its own matcher. Candidates
+ * are tested in the iteration order of the recipe collection, so the index finds the same recipe as a linear search.
+ * <p>
+ * The index is built on the first lookup after it was invalidated. Managers invalidate it whenever a recipe is added
+ * or removed.
+ */
+public class RecipeIndex<R> {
+	private final Supplier<? extends Collection<R>> recipes;
+	private final Function<R, Collection<ItemStack>> inputs;
+	@Nullable
+	private final Function<R, String> oreName;
+	private final boolean inputOres;
+	@Nullable
+	private volatile Buckets<R> buckets;
+
+	/**
+	 * @param recipes   The recipes of the manager. The index keeps a reference and reads them again after every
+	 *                  invalidation.
+	 * @param inputs    The item inputs of a recipe. A recipe matches only if one of them is part of the looked up items.
+	 * @param oreName   The ore dictionary name that a recipe accepts in addition to its item inputs, or null.
+	 * @param inputOres True if the ore ids of the item inputs should be indexed for lookups that use the ore dictionary.
+	 */
+	public RecipeIndex(Collection<R> recipes, Function<R, Collection<ItemStack>> inputs, @Nullable Function<R, String> oreName, boolean inputOres) {
+		this(() -> recipes, inputs, oreName, inputOres);
+	}
+
+	/**
+	 * @param recipes Supplies the recipes every time the index is built, for recipe collections that can be replaced.
+	 */
+	public RecipeIndex(Supplier<? extends Collection<R>> recipes, Function<R, Collection<ItemStack>> inputs, @Nullable Function<R, String> oreName, boolean inputOres) {
+		this.recipes = recipes;
+		this.inputs = inputs;
+		this.oreName = oreName;
+		this.inputOres = inputOres;
+	}
+
+	public void invalidate() {
+		buckets = null;
+	}
+
+	/**
+	 * Builds the index now instead of on the next lookup.
+	 */
+	public void rebuild() {
+		buckets = new Buckets<>(recipes.get(), inputs, oreName, inputOres);
+	}
+
+	/**
+	 * @param oreDictionary True if recipes that share an ore dictionary entry with the item are candidates as well.
+	 * @return The first recipe that is accepted by the matcher and has an input that matches the item.
+	 */
+	@Nullable
+	public R findMatch(ItemStack itemStack, boolean oreDictionary, Predicate<R> matcher) {
+		Buckets<R> buckets = getBuckets();
+		IntArrayList candidates = new IntArrayList();
+		buckets.addCandidates(itemStack, oreDictionary, candidates);
+		return buckets.findMatch(candidates, matcher);
+	}
+
+	/**
+	 * @return The first recipe that is accepted by the matcher and has an input that matches one of the items.
+	 */
+	@Nullable
+	public R findMatch(Iterable<ItemStack> itemStacks, boolean oreDictionary, Predicate<R> matcher) {
+		Buckets<R> buckets = getBuckets();
+		IntArrayList candidates = new IntArrayList();
+		for (ItemStack itemStack : itemStacks) {
+			buckets.addCandidates(itemStack, oreDictionary, candidates);
+		}
+		return buckets.findMatch(candidates, matcher);
+	}
+
+	/**
+	 * @return All recipes that are accepted by the matcher and have an input that matches one of the items.
+	 */
+	public List<R> findMatches(Iterable<ItemStack> itemStacks, boolean oreDictionary, Predicate<R> matcher) {
+		Buckets<R> buckets = getBuckets();
+		IntArrayList candidates = new IntArrayList();
+		for (ItemStack itemStack : itemStacks) {
+			buckets.addCandidates(itemStack, oreDictionary, candidates);
+		}
+		return buckets.findMatches(candidates, matcher);
+	}
+
+	private Buckets<R> getBuckets() {
+		Buckets<R> buckets = this.buckets;
+		if (buckets == null) {
+			buckets = new Buckets<>(recipes.get(), inputs, oreName, inputOres);
+			this.buckets = buckets;
+		}
+		return buckets;
+	}
+
+	private static class Buckets<R> {
+		private final List<R> recipes;
+		private final Map<Item, Int2ObjectMap<IntList>> items = new HashMap<>();
+		private final Int2ObjectMap<IntList> ores = new Int2ObjectOpenHashMap<>();
+		// recipes without any indexed input are candidates for every item
+		private final IntList unindexed = new IntArrayList();
+
+		public Buckets(Collection<R> recipes, Function<R, Collection<ItemStack>> inputs, @Nullable Function<R, String> oreName, boolean inputOres) {
+			this.recipes = new ArrayList<>(recipes);
+			for (int ordinal = 0; ordinal < this.recipes.size(); ordinal++) {
+				R recipe = this.recipes.get(ordinal);
+				boolean indexed = false;
+				for (ItemStack input : inputs.apply(recipe)) {
+					if (input.isEmpty()) {
+						continue;
+					}
+					items.computeIfAbsent(input.getItem(), item -> new Int2ObjectOpenHashMap<>())
+						.computeIfAbsent(input.getItemDamage(), meta -> new IntArrayList()).add(ordinal);
+					if (inputOres) {
+						for (int oreId : OreDictionary.getOreIDs(input)) {
+							ores.computeIfAbsent(oreId, id -> new IntArrayList()).add(ordinal);
+						}
+					}
+					indexed = true;
+				}
+				String name = oreName != null ? oreName.apply(recipe) : null;
+				if (name != null && !name.isEmpty()) {
+					ores.computeIfAbsent(OreDictionary.getOreID(name), id -> new IntArrayList()).add(ordinal);
+					indexed = true;
+				}
+				if (!indexed) {
+					unindexed.add(ordinal);
+				}
+			}
+		}
+
+		public void addCandidates(ItemStack itemStack, boolean oreDictionary, IntArrayList candidates) {
+			if (itemStack.isEmpty()) {
+				return;
+			}
+			Int2ObjectMap<IntList> metaBuckets = items.get(itemStack.getItem());
+			if (metaBuckets != null) {
+				addAll(metaBuckets.get(itemStack.getItemDamage()), candidates);
+				if (itemStack.getItemDamage() != OreDictionary.WILDCARD_VALUE) {
+					addAll(metaBuckets.get(OreDictionary.WILDCARD_VALUE), candidates);
+				}
+			}
+			if (oreDictionary && !ores.isEmpty()) {
+				for (int oreId : OreDictionary.getOreIDs(itemStack)) {
+					addAll(ores.get(oreId), candidates);
+				}
+			}
+		}
+
+		@Nullable
+		public R findMatch(IntArrayList candidates, Predicate<R> matcher) {
+			List<R> matches = findMatches(candidates, matcher, true);
+			return matches.isEmpty() ? null : matches.get(0);
+		}
+
+		public List<R> findMatches(IntArrayList candidates, Predicate<R> matcher) {
+			return findMatches(candidates, matcher, false);
+		}
+
+		private List<R> findMatches(IntArrayList candidates, Predicate<R> matcher, boolean firstOnly) {
+			addAll(unindexed, candidates);
+			int[] ordinals = candidates.elements();
+			int size = candidates.size();
+			Arrays.sort(ordinals, 0, size);
+			List<R> matches = new ArrayList<>();
+			for (int i = 0; i < size; i++) {
+				if (i > 0 && ordinals[i] == ordinals[i - 1]) {
+					continue;
+				}
+				R recipe = recipes.get(ordinals[i]);
+				if (matcher.test(recipe)) {
+					matches.add(recipe);
+					if (firstOnly) {
+						break;
+					}
+				}
+			}
+			return matches;
+		}
+
+		private static void addAll(@Nullable IntList bucket, IntArrayList candidates) {
+			if (bucket != null) {
+				candidates.addAll(bucket);
+			}
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.recipes;
+
+import javax.annotation.Nullable;
+import java.util.function.Supplier;
+
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.ItemStack;
+
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * Remembers the last recipe that a machine found together with the inputs it was found for, so the machine does not
+ * search the recipes again as long as its inputs did not change.
+ * <p>
+ * Inputs are compared by item, metadata and tag. Stack sizes and fluid amounts are ignored, because they do not change
+ * which recipe matches. A remembered null result is reused as well, so machines with inputs that match no recipe do
+ * not search every tick either.
+ * <p>
+ * The recipe managers of the machines call {@link #onRecipesChanged()} whenever a recipe is added or removed, which
+ * makes every memo search again.
+ */
+public class RecipeMemo<R> {
+	private static volatile int recipesVersion;
+
+	private ItemStack[] items = new ItemStack[0];
+	@Nullable
+	private FluidStack fluid;
+	@Nullable
+	private R recipe;
+	private boolean valid;
+	private int version;
+
+	public static synchronized void onRecipesChanged() {
+		recipesVersion++;
+	}
+
+	/**
+	 * @return The remembered recipe if the inputs did not change, or the result of the lookup otherwise.
+	 */
+	@Nullable
+	public R getRecipe(ItemStack item, @Nullable FluidStack fluid, Supplier<R> lookup) {
+		if (isValid() && items.length == 1 && isSameItem(items[0], item) && isSameFluid(this.fluid, fluid)) {
+			return recipe;
+		}
+		items = new ItemStack[]{item.copy()};
+		return remember(fluid, lookup);
+	}
+
+	/**
+	 * @return The remembered recipe if the slots of the inventory did not change, or the result of the lookup otherwise.
+	 */
+	@Nullable
+	public R getRecipe(ItemStack item, IInventory inventory, int firstSlot, int slotCount, Supplier<R> lookup) {
+		if (isValid() && items.length == slotCount + 1 && isSameItem(items[0], item) && fluid == null) {
+			boolean changed = false;
+			for (int i = 0; i < slotCount && !changed; i++) {
+				changed = !isSameItem(items[i + 1], inventory.getStackInSlot(firstSlot + i));
+			}
+			if (!changed) {
+				return recipe;
+			}
+		}
+		items = new ItemStack[slotCount + 1];
+		items[0] = item.copy();
+		for (int i = 0; i < slotCount; i++) {
+			items[i + 1] = inventory.getStackInSlot(firstSlot + i).copy();
+		}
+		return remember(null, lookup);
+	}
+
+	private boolean isValid() {
+		return valid && version == recipesVersion;
+	}
+
+	@Nullable
+	private R remember(@Nullable FluidStack fluid, Supplier<R> lookup) {
+		this.fluid = fluid == null ? null : fluid.copy();
+		this.version = recipesVersion;
+		this.recipe = lookup.get();
+		this.valid = true;
+		return recipe;
+	}
+
+	private static boolean isSameItem(ItemStack remembered, ItemStack itemStack) {
+		if (remembered.isEmpty() || itemStack.isEmpty()) {
+			return remembered.isEmpty() == itemStack.isEmpty();
+		}
+		return ItemStack.areItemsEqual(remembered, itemStack) && ItemStack.areItemStackTagsEqual(remembered, itemStack);
+	}
+
+	private static boolean isSameFluid(@Nullable FluidStack remembered, @Nullable FluidStack fluid) {
+		if (remembered == null || fluid == null) {
+			return remembered == fluid;
+		}
+		return remembered.isFluidEqual(fluid);
+	}
+}
@@ -11,8 +11,11 @@
 package forestry.core.recipes;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import net.minecraft.block.Block;
 import net.minecraft.inventory.IInventory;
@@ -20,15 +23,19 @@ import net.minecraft.inventory.InventoryCrafting;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.Ingredient;
 import net.minecraft.util.NonNullList;
 import net.minecraft.world.World;
 
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreIngredient;
 import net.minecraftforge.oredict.ShapelessOreRecipe;
 
+import net.minecraftforge.fml.common.ObfuscationReflectionHelper;
 import net.minecraftforge.fml.common.registry.ForgeRegistries;
 import net.minecraftforge.fml.common.registry.GameRegistry;
+import net.minecraftforge.fml.relauncher.ReflectionHelper;
 
 import forestry.api.recipes.IDescriptiveRecipe;
 import forestry.api.recipes.RecipeManagers;
@@ -39,6 +46,8 @@ import forestry.worktable.inventory.InventoryCraftingForestry;
 
 public abstract class RecipeUtil {
 
+	private static final RecipeIndex<IRecipe> craftingRecipeIndex = new RecipeIndex<>(ForgeRegistries.RECIPES::getValuesCollection, RecipeUtil::getKeyIngredient, null, false);
+
 	// TODO use json recipes
 
 	public static void addFermenterRecipes(ItemStack resource, int fermentationValue, Fluids output) {
@@ -137,7 +146,50 @@ public abstract class RecipeUtil {
 	}
 
 	public static List<IRecipe> findMatchingRecipes(InventoryCrafting inventory, World world) {
-		return ForgeRegistries.RECIPES.getValuesCollection().stream().filter(recipe -> recipe.matches(inventory, world)).collect(Collectors.toList());
+		List<ItemStack> gridStacks = new ArrayList<>(inventory.getSizeInventory());
+		for (int slot = 0; slot < inventory.getSizeInventory(); slot++) {
+			gridStacks.add(inventory.getStackInSlot(slot));
+		}
+		return craftingRecipeIndex.findMatches(gridStacks, false, recipe -> recipe.matches(inventory, world));
+	}
+
+	/**
+	 * Indexes the crafting recipes once all of them are registered, so the first worktable does not have to wait for it.
+	 */
+	public static void indexCraftingRecipes() {
+		craftingRecipeIndex.rebuild();
+	}
+
+	/**
+	 * A recipe only matches if the crafting grid contains one of the stacks of its first ingredient. Recipes whose first
+	 * ingredient uses its own matching logic can not be indexed and are tested for every grid.
+	 */
+	private static Collection<ItemStack> getKeyIngredient(IRecipe recipe) {
+		for (Ingredient ingredient : recipe.getIngredients()) {
+			if (ingredient.getMatchingStacks().length > 0) {
+				return getIndexedStacks(ingredient);
+			}
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Ore ingredients replace their wildcard entries with the sub items of the creative tabs in getMatchingStacks, which
+	 * misses all metadata that is not shown there. Their ore dictionary entries are indexed instead, so a wildcard entry
+	 * ends up in the wildcard bucket of its item. Other ingredients may expand their stacks the same way and are not
+	 * indexed.
+	 */
+	private static Collection<ItemStack> getIndexedStacks(Ingredient ingredient) {
+		if (ingredient.getClass() == Ingredient.class) {
+			return Arrays.asList(ingredient.getMatchingStacks());
+		} else if (ingredient instanceof OreIngredient) {
+			try {
+				return ObfuscationReflectionHelper.getPrivateValue(OreIngredient.class, (OreIngredient) ingredient, "ores");
+			} catch (ReflectionHelper.UnableToFindFieldException | ReflectionHelper.UnableToAccessFieldException e) {
+				return Collections.emptyList();
+			}
+		}
+		return Collections.emptyList();
 	}
 
 	public static void addRecipe(String recipeName, Block block, Object... obj) {
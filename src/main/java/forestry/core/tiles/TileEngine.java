@@ -186,7 +186,7 @@ public abstract class TileEngine extends TileBase implements IActivatable, IStre
 		this.active = active;
 
 		if (!world.isRemote) {
-			NetworkUtil.sendNetworkPacket(new PacketActiveUpdate(this), pos, world);
+			NetworkUtil.queueNetworkPacket(new PacketActiveUpdate(this), pos, world);
 		}
 	}
 
@@ -47,8 +47,9 @@ import forestry.core.errors.ErrorLogic;
 import forestry.core.gui.IGuiHandlerTile;
 import forestry.core.inventory.FakeInventoryAdapter;
 import forestry.core.inventory.IInventoryAdapter;
-import forestry.core.network.IStreamable;
+import forestry.core.network.IStreamableDelta;
 import forestry.core.network.PacketBufferForestry;
+import forestry.core.network.StreamableDeltaTracker;
 import forestry.core.network.packets.PacketTileStream;
 import forestry.core.utils.NBTUtilForestry;
 import forestry.core.utils.NetworkUtil;
@@ -61,12 +62,14 @@ import buildcraft.api.statements.ITriggerInternalSided;
 import buildcraft.api.statements.ITriggerProvider;
 
 @Optional.Interface(iface = "buildcraft.api.statements.ITriggerProvider", modid = Constants.BCLIB_MOD_ID)
-public abstract class TileForestry extends TileEntity implements IStreamable, IErrorLogicSource, ISidedInventory, IFilterSlotDelegate, ITitled, ILocatable, IGuiHandlerTile, ITickable, ITriggerProvider {
+public abstract class TileForestry extends TileEntity implements IStreamableDelta, IErrorLogicSource, ISidedInventory, IFilterSlotDelegate, ITitled, ILocatable, IGuiHandlerTile, ITickable, ITriggerProvider {
 	private final ErrorLogic errorHandler = new ErrorLogic();
 	private final AdjacentTileCache tileCache = new AdjacentTileCache(this);
 
 	private IInventoryAdapter inventory = FakeInventoryAdapter.instance();
 
+	private final StreamableDeltaTracker deltaTracker = new StreamableDeltaTracker();
+
 	private final TickHelper tickHelper = new TickHelper();
 	private boolean needsNetworkUpdate = false;
 
@@ -156,7 +159,13 @@ public abstract class TileForestry extends TileEntity implements IStreamable, IE
 	/* INetworkedEntity */
 	protected final void sendNetworkUpdate() {
 		PacketTileStream packet = new PacketTileStream(this);
-		NetworkUtil.sendNetworkPacket(packet, pos, world);
+		NetworkUtil.queueNetworkPacket(packet, pos, world);
+	}
+
+	/* IStreamableDelta */
+	@Override
+	public StreamableDeltaTracker getDeltaTracker() {
+		return deltaTracker;
 	}
 
 	/* IStreamable */
@@ -81,6 +81,22 @@ public class GeneticsUtil {
 		}
 
 		IIndividual pollen = getPollen(world, pos);
+		return createPollinatable(pollen);
+	}
+
+	@Nullable
+	public static ICheckPollinatable getCheckPollinatable(TerritoryView territory, final BlockPos pos) {
+		IPollinatable tile = TileUtil.getTile(territory, pos, IPollinatable.class);
+		if (tile != null) {
+			return tile;
+		}
+
+		IIndividual pollen = getPollen(territory, pos);
+		return createPollinatable(pollen);
+	}
+
+	@Nullable
+	private static ICheckPollinatable createPollinatable(@Nullable IIndividual pollen) {
 		if (pollen != null) {
 			ISpeciesRoot root = pollen.getGenome().getSpeciesRoot();
 			if (root instanceof ISpeciesRootPollinatable) {
@@ -150,7 +166,29 @@ public class GeneticsUtil {
 		}
 
 		IBlockState blockState = world.getBlockState(pos);
+		return getPollen(blockState);
+	}
+
+	/**
+	 * Gets pollen from a location of the territory. Does not affect the pollen source.
+	 */
+	@Nullable
+	public static IIndividual getPollen(TerritoryView territory, final BlockPos pos) {
+		if (!territory.isLoaded(pos)) {
+			return null;
+		}
+
+		ICheckPollinatable checkPollinatable = TileUtil.getTile(territory, pos, ICheckPollinatable.class);
+		if (checkPollinatable != null) {
+			return checkPollinatable.getPollen();
+		}
 
+		IBlockState blockState = territory.getBlockState(pos);
+		return getPollen(blockState);
+	}
+
+	@Nullable
+	private static IIndividual getPollen(IBlockState blockState) {
 		for (ISpeciesRoot root : AlleleManager.alleleRegistry.getSpeciesRoot().values()) {
 			IIndividual individual = root.translateMember(blockState);
 			if (individual != null) {
@@ -36,6 +36,7 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
 import forestry.core.network.IStreamable;
+import forestry.core.network.IStreamableDelta;
 import forestry.core.network.PacketBufferForestry;
 
 import io.netty.buffer.Unpooled;
@@ -97,6 +98,11 @@ public abstract class NBTUtilForestry {
 	}
 
 	public static NBTTagCompound writeStreamableToNbt(IStreamable streamable, NBTTagCompound nbt) {
+		if (streamable instanceof IStreamableDelta) {
+			// the complete state is sent outside of the delta updates, so the next update has to be a full one
+			((IStreamableDelta) streamable).getDeltaTracker().invalidate();
+		}
+
 		PacketBufferForestry data = new PacketBufferForestry(Unpooled.buffer());
 		streamable.writeData(data);
 
@@ -110,9 +116,13 @@ public abstract class NBTUtilForestry {
 	public static void readStreamableFromNbt(IStreamable streamable, NBTTagCompound nbt) {
 		if (nbt.hasKey("dataBytes")) {
 			byte[] bytes = nbt.getByteArray("dataBytes");
-			PacketBufferForestry data = new PacketBufferForestry(Unpooled.wrappedBuffer(bytes));
 			try {
-				streamable.readData(data);
+				if (streamable instanceof IStreamableDelta) {
+					((IStreamableDelta) streamable).getDeltaTracker().readFullData(streamable, bytes);
+				} else {
+					PacketBufferForestry data = new PacketBufferForestry(Unpooled.wrappedBuffer(bytes));
+					streamable.readData(data);
+				}
 			} catch (IOException e) {
 				Log.error("Failed to read streamable data", e);
 			}
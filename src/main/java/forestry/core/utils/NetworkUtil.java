@@ -12,11 +12,14 @@ package forestry.core.utils;
 
 import com.google.common.base.Preconditions;
 
+import java.util.List;
+
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.network.NetHandlerPlayClient;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.server.management.PlayerChunkMap;
+import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
@@ -27,10 +30,16 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
 import forestry.Forestry;
+import forestry.core.network.ForestryPacket;
 import forestry.core.network.IForestryPacketClient;
 import forestry.core.network.IForestryPacketServer;
+import forestry.core.network.TileUpdateQueue;
 
 public class NetworkUtil {
+	/**
+	 * Sends the packet to every player that is watching the chunk at the given position.
+	 * The packet is only encoded once and the encoded payload is shared between all watchers.
+	 */
 	public static <P extends IForestryPacketClient> void sendNetworkPacket(P packet, BlockPos pos, World world) {
 		if (!(world instanceof WorldServer)) {
 			return;
@@ -42,15 +51,29 @@ public class NetworkUtil {
 		int chunkX = pos.getX() >> 4;
 		int chunkZ = pos.getZ() >> 4;
 
-		for (Object playerObj : world.playerEntities) {
-			if (playerObj instanceof EntityPlayerMP) {
-				EntityPlayerMP player = (EntityPlayerMP) playerObj;
+		PlayerChunkMapEntry entry = playerManager.getEntry(chunkX, chunkZ);
+		if (entry == null || !entry.isSentToPlayers()) {
+			return;
+		}
 
-				if (playerManager.isPlayerWatchingChunk(player, chunkX, chunkZ)) {
-					sendToPlayer(packet, player);
-				}
-			}
+		List<EntityPlayerMP> watchingPlayers = entry.getWatchingPlayers();
+		if (watchingPlayers.isEmpty()) {
+			return;
 		}
+
+		Forestry.getPacketHandler().sendPacket(packet.getPacket(), watchingPlayers);
+	}
+
+	/**
+	 * Queues the packet until the end of the world tick.
+	 * Only the latest packet of the same kind is sent for a position, together with all other queued updates of its chunk.
+	 */
+	public static <P extends ForestryPacket & IForestryPacketClient> void queueNetworkPacket(P packet, BlockPos pos, World world) {
+		if (!(world instanceof WorldServer)) {
+			return;
+		}
+
+		TileUpdateQueue.enqueue((WorldServer) world, pos, packet);
 	}
 
 	public static void sendToPlayer(IForestryPacketClient packet, EntityPlayer entityplayer) {
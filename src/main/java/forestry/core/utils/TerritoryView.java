@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.utils;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+/**
+ * A read only view of the chunks that cover an area of a world, like the territory of a bee housing.
+ * <p>
+ * The view resolves every chunk only once and reads the blocks directly from the chunk sections. Blocks of chunks that
+ * are not loaded read as air and never cause the chunk to be loaded.
+ * <p>
+ * A view is only valid during the tick it was created in. {@link #get(World, BlockPos, BlockPos)} returns the same view
+ * to all callers that ask for the same area during one tick, so the work of a bee housing shares one view.
+ */
+public class TerritoryView implements IBlockAccess {
+	@Nullable
+	private static TerritoryView lastView;
+
+	private final World world;
+	private final BlockPos minPos;
+	private final BlockPos maxPos;
+	private final long worldTime;
+	private final int minChunkX;
+	private final int minChunkZ;
+	private final int chunksX;
+	private final Chunk[] chunks;
+	private final boolean[] resolved;
+
+	private TerritoryView(World world, BlockPos minPos, BlockPos maxPos) {
+		this.world = world;
+		this.minPos = minPos;
+		this.maxPos = maxPos;
+		this.worldTime = world.getTotalWorldTime();
+		this.minChunkX = minPos.getX() >> 4;
+		this.minChunkZ = minPos.getZ() >> 4;
+		this.chunksX = (maxPos.getX() >> 4) - minChunkX + 1;
+		int chunksZ = (maxPos.getZ() >> 4) - minChunkZ + 1;
+		this.chunks = new Chunk[chunksX * chunksZ];
+		this.resolved = new boolean[chunks.length];
+	}
+
+	/**
+	 * @return A view of all chunks between the two positions.
+	 */
+	public static TerritoryView get(World world, BlockPos minPos, BlockPos maxPos) {
+		if (world.isRemote) {
+			return new TerritoryView(world, minPos, maxPos);
+		}
+		TerritoryView view = lastView;
+		if (view == null || view.world != world || view.worldTime != world.getTotalWorldTime() || !view.minPos.equals(minPos) || !view.maxPos.equals(maxPos)) {
+			view = new TerritoryView(world, minPos, maxPos);
+			lastView = view;
+		}
+		return view;
+	}
+
+	public static void onWorldUnloaded(World world) {
+		if (lastView != null && lastView.world == world) {
+			lastView = null;
+		}
+	}
+
+	public World getWorld() {
+		return world;
+	}
+
+	/**
+	 * @return The chunk of the position, or null if it is not loaded.
+	 */
+	@Nullable
+	public Chunk getChunk(BlockPos pos) {
+		int chunkX = pos.getX() >> 4;
+		int chunkZ = pos.getZ() >> 4;
+		int indexX = chunkX - minChunkX;
+		int indexZ = chunkZ - minChunkZ;
+		if (indexX < 0 || indexX >= chunksX || indexZ < 0 || indexZ >= chunks.length / chunksX) {
+			return world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+		}
+		int index = indexX + indexZ * chunksX;
+		if (!resolved[index]) {
+			chunks[index] = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+			resolved[index] = true;
+		}
+		return chunks[index];
+	}
+
+	public boolean isLoaded(BlockPos pos) {
+		return getChunk(pos) != null;
+	}
+
+	@Override
+	public IBlockState getBlockState(BlockPos pos) {
+		if (world.isOutsideBuildHeight(pos)) {
+			return Blocks.AIR.getDefaultState();
+		}
+		Chunk chunk = getChunk(pos);
+		if (chunk == null) {
+			return Blocks.AIR.getDefaultState();
+		}
+		ExtendedBlockStorage storage = chunk.getBlockStorageArray()[pos.getY() >> 4];
+		if (storage == Chunk.NULL_BLOCK_STORAGE) {
+			return Blocks.AIR.getDefaultState();
+		}
+		return storage.get(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+	}
+
+	@Nullable
+	@Override
+	public TileEntity getTileEntity(BlockPos pos) {
+		if (world.isOutsideBuildHeight(pos)) {
+			return null;
+		}
+		Chunk chunk = getChunk(pos);
+		if (chunk == null) {
+			return null;
+		}
+		return chunk.getTileEntity(pos, Chunk.EnumCreateEntityType.IMMEDIATE);
+	}
+
+	@Override
+	public boolean isAirBlock(BlockPos pos) {
+		IBlockState blockState = getBlockState(pos);
+		return blockState.getBlock().isAir(blockState, this, pos);
+	}
+
+	@Override
+	public int getCombinedLight(BlockPos pos, int lightValue) {
+		return world.getCombinedLight(pos, lightValue);
+	}
+
+	@Override
+	public Biome getBiome(BlockPos pos) {
+		return world.getBiome(pos);
+	}
+
+	@Override
+	public int getStrongPower(BlockPos pos, EnumFacing direction) {
+		return world.getStrongPower(pos, direction);
+	}
+
+	@Override
+	public WorldType getWorldType() {
+		return world.getWorldType();
+	}
+
+	@Override
+	public boolean isSideSolid(BlockPos pos, EnumFacing side, boolean _default) {
+		if (!isLoaded(pos)) {
+			return _default;
+		}
+		return world.isSideSolid(pos, side, _default);
+	}
+}
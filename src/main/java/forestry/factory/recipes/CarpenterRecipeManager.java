@@ -11,14 +11,17 @@
 package forestry.factory.recipes;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
+import net.minecraft.util.NonNullList;
 
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
@@ -26,6 +29,7 @@ import net.minecraftforge.fluids.FluidStack;
 import forestry.api.recipes.ICarpenterManager;
 import forestry.api.recipes.ICarpenterRecipe;
 import forestry.api.recipes.IDescriptiveRecipe;
+import forestry.core.recipes.RecipeIndex;
 import forestry.core.recipes.RecipePair;
 import forestry.core.recipes.RecipeUtil;
 import forestry.core.recipes.ShapedRecipeCustom;
@@ -35,6 +39,8 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 
 	private static final Set<ICarpenterRecipe> recipes = new HashSet<>();
 	private static final Set<Fluid> recipeFluids = new HashSet<>();
+	private static final RecipeIndex<ICarpenterRecipe> recipeIndex = new RecipeIndex<>(recipes, CarpenterRecipeManager::getKeyIngredient, null, false);
+	private static final RecipeIndex<ICarpenterRecipe> boxIndex = new RecipeIndex<>(recipes, recipe -> Collections.singletonList(recipe.getBox()), null, false);
 
 	@Override
 	public void addRecipe(ItemStack box, ItemStack product, Object materials[]) {
@@ -54,15 +60,30 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 
 	@Nullable
 	public static RecipePair<ICarpenterRecipe> findMatchingRecipe(@Nullable FluidStack liquid, ItemStack item, IInventory inventorycrafting) {
-		for (ICarpenterRecipe recipe : recipes) {
-			String[][] resourceDicts = matches(recipe, liquid, item, inventorycrafting);
-			if (resourceDicts != null) {
-				return new RecipePair(recipe, resourceDicts);
-			}
+		List<ItemStack> gridStacks = new ArrayList<>(inventorycrafting.getSizeInventory());
+		for (int slot = 0; slot < inventorycrafting.getSizeInventory(); slot++) {
+			gridStacks.add(inventorycrafting.getStackInSlot(slot));
+		}
+
+		ICarpenterRecipe recipe = recipeIndex.findMatch(gridStacks, false, candidate -> matches(candidate, liquid, item, inventorycrafting) != null);
+		if (recipe != null) {
+			return new RecipePair(recipe, matches(recipe, liquid, item, inventorycrafting));
 		}
 		return RecipePair.EMPTY;
 	}
 
+	/**
+	 * A recipe only matches if the crafting grid contains one of the alternatives of its first ingredient.
+	 */
+	private static Collection<ItemStack> getKeyIngredient(ICarpenterRecipe recipe) {
+		for (NonNullList<ItemStack> ingredient : recipe.getCraftingGridRecipe().getRawIngredients()) {
+			if (!ingredient.isEmpty()) {
+				return ingredient;
+			}
+		}
+		return Collections.emptyList();
+	}
+
 	public static String[][] matches(@Nullable ICarpenterRecipe recipe, @Nullable FluidStack resource, ItemStack item, IInventory inventoryCrafting) {
 		if (recipe == null) {
 			return null;
@@ -89,23 +110,20 @@ public class CarpenterRecipeManager implements ICarpenterManager {
 			return false;
 		}
 
-		for (ICarpenterRecipe recipe : recipes) {
-			ItemStack box = recipe.getBox();
-			if (ItemStackUtil.isIdenticalItem(box, resource)) {
-				return true;
-			}
-		}
-
-		return false;
+		return boxIndex.findMatch(resource, false, recipe -> ItemStackUtil.isIdenticalItem(recipe.getBox(), resource)) != null;
 	}
 
 	@Override
 	public boolean addRecipe(ICarpenterRecipe recipe) {
+		recipeIndex.invalidate();
+		boxIndex.invalidate();
 		return recipes.add(recipe);
 	}
 
 	@Override
 	public boolean removeRecipe(ICarpenterRecipe recipe) {
+		recipeIndex.invalidate();
+		boxIndex.invalidate();
 		boolean removed = recipes.remove(recipe);
 		if (removed) {
 			recipeFluids.clear();
@@ -20,11 +20,14 @@ import net.minecraft.item.ItemStack;
 
 import forestry.api.recipes.ICentrifugeManager;
 import forestry.api.recipes.ICentrifugeRecipe;
+import forestry.core.recipes.RecipeIndex;
+import forestry.core.recipes.RecipeMemo;
 import forestry.core.utils.ItemStackUtil;
 
 public class CentrifugeRecipeManager implements ICentrifugeManager {
 
 	private static final Set<ICentrifugeRecipe> recipes = new HashSet<>();
+	private static final RecipeIndex<ICentrifugeRecipe> recipeIndex = new RecipeIndex<>(recipes, recipe -> Collections.singletonList(recipe.getInput()), null, false);
 
 	@Override
 	public void addRecipe(int timePerItem, ItemStack resource, Map<ItemStack, Float> products) {
@@ -38,22 +41,20 @@ public class CentrifugeRecipeManager implements ICentrifugeManager {
 			return null;
 		}
 
-		for (ICentrifugeRecipe recipe : recipes) {
-			ItemStack recipeInput = recipe.getInput();
-			if (ItemStackUtil.isCraftingEquivalent(recipeInput, itemStack)) {
-				return recipe;
-			}
-		}
-		return null;
+		return recipeIndex.findMatch(itemStack, false, recipe -> ItemStackUtil.isCraftingEquivalent(recipe.getInput(), itemStack));
 	}
 
 	@Override
 	public boolean addRecipe(ICentrifugeRecipe recipe) {
+		recipeIndex.invalidate();
+		RecipeMemo.onRecipesChanged();
 		return recipes.add(recipe);
 	}
 
 	@Override
 	public boolean removeRecipe(ICentrifugeRecipe recipe) {
+		recipeIndex.invalidate();
+		RecipeMemo.onRecipesChanged();
 		return recipes.remove(recipe);
 	}
 
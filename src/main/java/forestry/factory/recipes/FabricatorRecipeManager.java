@@ -25,6 +25,7 @@ import net.minecraftforge.fluids.FluidStack;
 
 import forestry.api.recipes.IFabricatorManager;
 import forestry.api.recipes.IFabricatorRecipe;
+import forestry.core.recipes.RecipeMemo;
 import forestry.core.recipes.RecipePair;
 import forestry.core.recipes.RecipeUtil;
 import forestry.core.recipes.ShapedRecipeCustom;
@@ -72,11 +73,13 @@ public class FabricatorRecipeManager implements IFabricatorManager {
 
 	@Override
 	public boolean addRecipe(IFabricatorRecipe recipe) {
+		RecipeMemo.onRecipesChanged();
 		return recipes.add(recipe);
 	}
 
 	@Override
 	public boolean removeRecipe(IFabricatorRecipe recipe) {
+		RecipeMemo.onRecipesChanged();
 		return recipes.remove(recipe);
 	}
 
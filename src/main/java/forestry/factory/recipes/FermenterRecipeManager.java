@@ -24,11 +24,14 @@ import net.minecraftforge.fluids.FluidStack;
 
 import forestry.api.recipes.IFermenterManager;
 import forestry.api.recipes.IFermenterRecipe;
+import forestry.core.recipes.RecipeIndex;
+import forestry.core.recipes.RecipeMemo;
 import forestry.core.utils.ItemStackUtil;
 
 public class FermenterRecipeManager implements IFermenterManager {
 
 	private static final Set<IFermenterRecipe> recipes = new TreeSet<>();
+	private static final RecipeIndex<IFermenterRecipe> recipeIndex = new RecipeIndex<>(recipes, recipe -> Collections.singletonList(recipe.getResource()), IFermenterRecipe::getResourceOreName, false);
 	public static final Set<Fluid> recipeFluidInputs = new HashSet<>();
 	public static final Set<Fluid> recipeFluidOutputs = new HashSet<>();
 
@@ -59,12 +62,7 @@ public class FermenterRecipeManager implements IFermenterManager {
 		if (res.isEmpty()) {
 			return null;
 		}
-		for (IFermenterRecipe recipe : recipes) {
-			if (matches(recipe, res, liqu)) {
-				return recipe;
-			}
-		}
-		return null;
+		return recipeIndex.findMatch(res, true, recipe -> matches(recipe, res, liqu));
 	}
 
 	public static boolean matches(IFermenterRecipe recipe, ItemStack res, FluidStack liqu) {
@@ -82,12 +80,7 @@ public class FermenterRecipeManager implements IFermenterManager {
 			return false;
 		}
 
-		for (IFermenterRecipe recipe : recipes) {
-			if (ItemStackUtil.isCraftingEquivalent(recipe.getResource(), resource, recipe.getResourceOreName(), false)) {
-				return true;
-			}
-		}
-		return false;
+		return recipeIndex.findMatch(resource, true, recipe -> ItemStackUtil.isCraftingEquivalent(recipe.getResource(), resource, recipe.getResourceOreName(), false)) != null;
 	}
 
 	@Override
@@ -98,6 +91,8 @@ public class FermenterRecipeManager implements IFermenterManager {
 		Fluid output = recipe.getOutput();
 		recipeFluidOutputs.add(output);
 
+		recipeIndex.invalidate();
+		RecipeMemo.onRecipesChanged();
 		return recipes.add(recipe);
 	}
 
@@ -109,6 +104,8 @@ public class FermenterRecipeManager implements IFermenterManager {
 		Fluid output = recipe.getOutput();
 		recipeFluidOutputs.remove(output);
 
+		recipeIndex.invalidate();
+		RecipeMemo.onRecipesChanged();
 		return recipes.remove(recipe);
 	}
 
@@ -19,11 +19,13 @@ import net.minecraft.item.ItemStack;
 
 import forestry.api.recipes.IMoistenerManager;
 import forestry.api.recipes.IMoistenerRecipe;
+import forestry.core.recipes.RecipeIndex;
 import forestry.core.utils.ItemStackUtil;
 
 public class MoistenerRecipeManager implements IMoistenerManager {
 
 	private static final Set<IMoistenerRecipe> recipes = new HashSet<>();
+	private static final RecipeIndex<IMoistenerRecipe> recipeIndex = new RecipeIndex<>(recipes, recipe -> Collections.singletonList(recipe.getResource()), null, false);
 
 	@Override
 	public void addRecipe(ItemStack resource, ItemStack product, int timePerItem) {
@@ -36,32 +38,23 @@ public class MoistenerRecipeManager implements IMoistenerManager {
 			return false;
 		}
 
-		for (IMoistenerRecipe rec : recipes) {
-			if (ItemStackUtil.isIdenticalItem(resource, rec.getResource())) {
-				return true;
-			}
-		}
-
-		return false;
+		return recipeIndex.findMatch(resource, false, recipe -> ItemStackUtil.isIdenticalItem(resource, recipe.getResource())) != null;
 	}
 
 	@Nullable
 	public static IMoistenerRecipe findMatchingRecipe(ItemStack item) {
-		for (IMoistenerRecipe recipe : recipes) {
-			if (ItemStackUtil.isCraftingEquivalent(recipe.getResource(), item)) {
-				return recipe;
-			}
-		}
-		return null;
+		return recipeIndex.findMatch(item, false, recipe -> ItemStackUtil.isCraftingEquivalent(recipe.getResource(), item));
 	}
 
 	@Override
 	public boolean addRecipe(IMoistenerRecipe recipe) {
+		recipeIndex.invalidate();
 		return recipes.add(recipe);
 	}
 
 	@Override
 	public boolean removeRecipe(IMoistenerRecipe recipe) {
+		recipeIndex.invalidate();
 		return recipes.remove(recipe);
 	}
 
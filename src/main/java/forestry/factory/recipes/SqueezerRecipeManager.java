@@ -23,12 +23,14 @@ import net.minecraftforge.fluids.FluidStack;
 import forestry.api.recipes.ISqueezerManager;
 import forestry.api.recipes.ISqueezerRecipe;
 import forestry.core.fluids.FluidHelper;
+import forestry.core.recipes.RecipeIndex;
 import forestry.core.utils.ItemStackUtil;
 import forestry.core.utils.datastructures.ItemStackMap;
 
 public class SqueezerRecipeManager implements ISqueezerManager {
 
 	private static final Set<ISqueezerRecipe> recipes = new HashSet<>();
+	private static final RecipeIndex<ISqueezerRecipe> recipeIndex = new RecipeIndex<>(recipes, ISqueezerRecipe::getResources, null, true);
 	public static final ItemStackMap<ISqueezerContainerRecipe> containerRecipes = new ItemStackMap<>();
 
 	@Override
@@ -83,22 +85,20 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 			}
 		}
 
-		for (ISqueezerRecipe recipe : recipes) {
-			if (ItemStackUtil.containsSets(recipe.getResources(), items, false, false) > 0) {
-				return recipe;
-			}
-		}
-
-		return null;
+		return recipeIndex.findMatch(items, false, recipe -> ItemStackUtil.containsSets(recipe.getResources(), items, false, false) > 0);
 	}
 
 	public static boolean canUse(ItemStack itemStack) {
-		for (ISqueezerRecipe recipe : recipes) {
+		ISqueezerRecipe matchingRecipe = recipeIndex.findMatch(itemStack, true, recipe -> {
 			for (ItemStack recipeInput : recipe.getResources()) {
 				if (ItemStackUtil.isCraftingEquivalent(recipeInput, itemStack, true, false)) {
 					return true;
 				}
 			}
+			return false;
+		});
+		if (matchingRecipe != null) {
+			return true;
 		}
 
 		return SqueezerRecipeManager.findMatchingContainerRecipe(itemStack) != null;
@@ -106,11 +106,13 @@ public class SqueezerRecipeManager implements ISqueezerManager {
 
 	@Override
 	public boolean addRecipe(ISqueezerRecipe recipe) {
+		recipeIndex.invalidate();
 		return recipes.add(recipe);
 	}
 
 	@Override
 	public boolean removeRecipe(ISqueezerRecipe recipe) {
+		recipeIndex.invalidate();
 		return recipes.remove(recipe);
 	}
 
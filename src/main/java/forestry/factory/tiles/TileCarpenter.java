@@ -40,6 +40,7 @@ import forestry.core.fluids.FluidHelper;
 import forestry.core.fluids.TankManager;
 import forestry.core.inventory.InventoryAdapterTile;
 import forestry.core.inventory.InventoryGhostCrafting;
+import forestry.core.inventory.InventoryStock;
 import forestry.core.inventory.wrappers.InventoryMapper;
 import forestry.core.network.PacketBufferForestry;
 import forestry.core.recipes.RecipePair;
@@ -62,6 +63,7 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 	private final TankManager tankManager;
 	private final InventoryAdapterTile craftingInventory;
 	private final InventoryCraftResult craftPreviewInventory;
+	private final InventoryStock resourceStock;
 
 	@Nullable
 	private ICarpenterRecipe currentRecipe;
@@ -79,6 +81,7 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 		craftingInventory = new InventoryGhostCrafting<>(this, 10);
 		craftPreviewInventory = new InventoryCraftResult();
 		setInternalInventory(new InventoryCarpenter(this));
+		resourceStock = new InventoryStock(new InventoryMapper(getInternalInventory(), InventoryCarpenter.SLOT_INVENTORY_1, InventoryCarpenter.SLOT_INVENTORY_COUNT));
 
 		tankManager = new TankManager(this, resourceTank);
 	}
@@ -197,6 +200,9 @@ public class TileCarpenter extends TilePowered implements ISidedInventory, ILiqu
 		}
 
 		NonNullList<ItemStack> craftingSets = InventoryUtil.getStacks(craftingInventory, InventoryGhostCrafting.SLOT_CRAFTING_1, InventoryGhostCrafting.SLOT_CRAFTING_COUNT);
+		if (!doRemove) {
+			return resourceStock.containsSets(craftingSets, oreDicts, false) >= 1;
+		}
 		IInventory inventory = new InventoryMapper(getInternalInventory(), InventoryCarpenter.SLOT_INVENTORY_1, InventoryCarpenter.SLOT_INVENTORY_COUNT);
 		return InventoryUtil.removeSets(inventory, 1, craftingSets, oreDicts, null, true, false, doRemove);
 	}
@@ -44,6 +44,7 @@ import forestry.core.errors.EnumErrorCode;
 import forestry.core.inventory.IInventoryAdapter;
 import forestry.core.inventory.InventoryAdapter;
 import forestry.core.network.PacketBufferForestry;
+import forestry.core.recipes.RecipeMemo;
 import forestry.core.tiles.IItemStackDisplay;
 import forestry.core.tiles.TilePowered;
 import forestry.core.utils.InventoryUtil;
@@ -64,6 +65,7 @@ public class TileCentrifuge extends TilePowered implements ISocketable, ISidedIn
 	private final InventoryCraftResult craftPreviewInventory;
 	@Nullable
 	private ICentrifugeRecipe currentRecipe;
+	private final RecipeMemo<ICentrifugeRecipe> recipeMemo = new RecipeMemo<>();
 
 	private final Stack<ItemStack> pendingProducts = new Stack<>();
 
@@ -158,7 +160,7 @@ public class TileCentrifuge extends TilePowered implements ISocketable, ISidedIn
 
 	private void checkRecipe() {
 		ItemStack resource = getStackInSlot(InventoryCentrifuge.SLOT_RESOURCE);
-		ICentrifugeRecipe matchingRecipe = CentrifugeRecipeManager.findMatchingRecipe(resource);
+		ICentrifugeRecipe matchingRecipe = recipeMemo.getRecipe(resource, null, () -> CentrifugeRecipeManager.findMatchingRecipe(resource));
 
 		if (currentRecipe != matchingRecipe) {
 			currentRecipe = matchingRecipe;
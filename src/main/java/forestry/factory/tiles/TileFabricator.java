@@ -43,10 +43,12 @@ import forestry.core.inventory.IInventoryAdapter;
 import forestry.core.inventory.InventoryAdapter;
 import forestry.core.inventory.InventoryAdapterTile;
 import forestry.core.inventory.InventoryGhostCrafting;
+import forestry.core.inventory.InventoryStock;
 import forestry.core.inventory.watchers.ISlotPickupWatcher;
 import forestry.core.inventory.wrappers.InventoryMapper;
 import forestry.core.items.ICraftingPlan;
 import forestry.core.network.PacketBufferForestry;
+import forestry.core.recipes.RecipeMemo;
 import forestry.core.recipes.RecipePair;
 import forestry.core.tiles.ILiquidTankTile;
 import forestry.core.tiles.TilePowered;
@@ -63,6 +65,8 @@ public class TileFabricator extends TilePowered implements ISlotPickupWatcher, I
 	private final InventoryAdapterTile craftingInventory;
 	private final TankManager tankManager;
 	private final FilteredTank moltenTank;
+	private final RecipeMemo<RecipePair<IFabricatorRecipe>> recipeMemo = new RecipeMemo<>();
+	private final InventoryStock resourceStock;
 	private int heat = 0;
 	private int meltingPoint = 0;
 
@@ -71,6 +75,7 @@ public class TileFabricator extends TilePowered implements ISlotPickupWatcher, I
 		setEnergyPerWorkCycle(200);
 		craftingInventory = new InventoryGhostCrafting<>(this, InventoryGhostCrafting.SLOT_CRAFTING_COUNT);
 		setInternalInventory(new InventoryFabricator(this));
+		resourceStock = new InventoryStock(new InventoryMapper(this, InventoryFabricator.SLOT_INVENTORY_1, InventoryFabricator.SLOT_INVENTORY_COUNT));
 
 		moltenTank = new FilteredTank(8 * Fluid.BUCKET_VOLUME, false, false).setFilters(FabricatorSmeltingRecipeManager.getRecipeFluids());
 
@@ -169,10 +174,8 @@ public class TileFabricator extends TilePowered implements ISlotPickupWatcher, I
 
 	@Nullable
 	private RecipePair getRecipe() {
-		IInventoryAdapter inventory = getInternalInventory();
-		ItemStack plan = inventory.getStackInSlot(InventoryFabricator.SLOT_PLAN);
 		FluidStack liquid = moltenTank.getFluid();
-		RecipePair<IFabricatorRecipe> recipePair = FabricatorRecipeManager.findMatchingRecipe(plan, craftingInventory);
+		RecipePair<IFabricatorRecipe> recipePair = findMatchingRecipe();
 		IFabricatorRecipe recipe = recipePair.getRecipe();
 		if (liquid != null && recipe != null && !liquid.containsFluid(recipe.getLiquid())) {
 			return RecipePair.EMPTY;
@@ -180,6 +183,13 @@ public class TileFabricator extends TilePowered implements ISlotPickupWatcher, I
 		return recipePair;
 	}
 
+	private RecipePair<IFabricatorRecipe> findMatchingRecipe() {
+		ItemStack plan = getStackInSlot(InventoryFabricator.SLOT_PLAN);
+		RecipePair<IFabricatorRecipe> recipePair = recipeMemo.getRecipe(plan, craftingInventory, InventoryGhostCrafting.SLOT_CRAFTING_1, InventoryGhostCrafting.SLOT_CRAFTING_COUNT,
+			() -> FabricatorRecipeManager.findMatchingRecipe(plan, craftingInventory));
+		return recipePair != null ? recipePair : RecipePair.EMPTY;
+	}
+
 	public ItemStack getResult(RecipePair<IFabricatorRecipe> myRecipePair) {
 		IFabricatorRecipe myRecipe = myRecipePair.getRecipe();
 		if (myRecipe == null) {
@@ -228,6 +238,9 @@ public class TileFabricator extends TilePowered implements ISlotPickupWatcher, I
 	}
 
 	private boolean removeFromInventory(NonNullList<ItemStack> set, RecipePair<IFabricatorRecipe> recipePair, boolean doRemove) {
+		if (!doRemove) {
+			return resourceStock.containsSets(set, recipePair.getOreDictEntries(), false) >= 1;
+		}
 		IInventory inventory = new InventoryMapper(this, InventoryFabricator.SLOT_INVENTORY_1, InventoryFabricator.SLOT_INVENTORY_COUNT);
 		return InventoryUtil.removeSets(inventory, 1, set, recipePair.getOreDictEntries(), null, true, false, doRemove);
 	}
@@ -238,8 +251,7 @@ public class TileFabricator extends TilePowered implements ISlotPickupWatcher, I
 		boolean hasLiquidResources = true;
 		boolean hasResources = true;
 
-		ItemStack plan = getStackInSlot(InventoryFabricator.SLOT_PLAN);
-		RecipePair<IFabricatorRecipe> recipePair = FabricatorRecipeManager.findMatchingRecipe(plan, craftingInventory);
+		RecipePair<IFabricatorRecipe> recipePair = findMatchingRecipe();
 		if (!recipePair.isEmpty()) {
 			IFabricatorRecipe recipe = recipePair.getRecipe();
 			NonNullList<ItemStack> crafting = InventoryUtil.getStacks(craftingInventory, InventoryGhostCrafting.SLOT_CRAFTING_1, InventoryGhostCrafting.SLOT_CRAFTING_COUNT);
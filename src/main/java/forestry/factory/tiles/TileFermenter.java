@@ -45,6 +45,7 @@ import forestry.core.fluids.FilteredTank;
 import forestry.core.fluids.FluidHelper;
 import forestry.core.fluids.TankManager;
 import forestry.core.network.PacketBufferForestry;
+import forestry.core.recipes.RecipeMemo;
 import forestry.core.render.TankRenderInfo;
 import forestry.core.tiles.ILiquidTankTile;
 import forestry.core.tiles.TilePowered;
@@ -63,6 +64,7 @@ public class TileFermenter extends TilePowered implements ISidedInventory, ILiqu
 
 	@Nullable
 	private IFermenterRecipe currentRecipe;
+	private final RecipeMemo<IFermenterRecipe> recipeMemo = new RecipeMemo<>();
 	private float currentResourceModifier;
 	private int fermentationTime = 0;
 	private int fermentationTotalTime = 0;
@@ -170,7 +172,7 @@ public class TileFermenter extends TilePowered implements ISidedInventory, ILiqu
 		FluidStack fluid = resourceTank.getFluid();
 
 		if (fluid != null) {
-			currentRecipe = FermenterRecipeManager.findMatchingRecipe(resource, fluid);
+			currentRecipe = recipeMemo.getRecipe(resource, fluid, () -> FermenterRecipeManager.findMatchingRecipe(resource, fluid));
 		}
 
 		fermentationTotalTime = fermentationTime = currentRecipe == null ? 0 : currentRecipe.getFermentationValue();
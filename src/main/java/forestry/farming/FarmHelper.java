@@ -25,6 +25,7 @@ import net.minecraft.init.Blocks;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
 
 import forestry.api.farming.FarmDirection;
 import forestry.api.farming.ICrop;
@@ -124,46 +125,66 @@ public class FarmHelper {
 
 	public static void createTargets(World world, IFarmHousing farmHousing, Map<FarmDirection, List<FarmTarget>> targets, BlockPos targetStart, final int allowedExtent, final int farmSizeNorthSouth, final int farmSizeEastWest, BlockPos minFarmCoord, BlockPos maxFarmCoord) {
 		for (FarmDirection farmSide : FarmDirection.values()) {
+			List<FarmTarget> farmSideTargets = createTargets(world, farmHousing, farmSide, targetStart, allowedExtent, farmSizeNorthSouth, farmSizeEastWest, minFarmCoord, maxFarmCoord, null);
+			targets.put(farmSide, farmSideTargets);
+		}
+	}
 
-			final int farmWidth;
-			if (farmSide == FarmDirection.NORTH || farmSide == FarmDirection.SOUTH) {
-				farmWidth = farmSizeEastWest;
-			} else {
-				farmWidth = farmSizeNorthSouth;
-			}
+	/**
+	 * Creates the targets of one side of the farm.
+	 *
+	 * @param watchedAreas Receives the areas that contain all blocks the targets and their extents depend on, if not null.
+	 *                     The targets of the side have to be created again if one of these blocks changes.
+	 */
+	public static List<FarmTarget> createTargets(World world, IFarmHousing farmHousing, FarmDirection farmSide, BlockPos targetStart, final int allowedExtent, final int farmSizeNorthSouth, final int farmSizeEastWest, BlockPos minFarmCoord, BlockPos maxFarmCoord, @Nullable List<StructureBoundingBox> watchedAreas) {
+		final int farmWidth;
+		if (farmSide == FarmDirection.NORTH || farmSide == FarmDirection.SOUTH) {
+			farmWidth = farmSizeEastWest;
+		} else {
+			farmWidth = farmSizeNorthSouth;
+		}
 
-			// targets extend sideways in a pinwheel pattern around the farm, so they need to go a little extra distance
-			final int targetMaxLimit = allowedExtent + farmWidth;
+		// targets extend sideways in a pinwheel pattern around the farm, so they need to go a little extra distance
+		final int targetMaxLimit = allowedExtent + farmWidth;
 
-			FarmDirection layoutDirection = getLayoutDirection(farmSide);
+		FarmDirection layoutDirection = getLayoutDirection(farmSide);
 
-			List<FarmTarget> farmSideTargets = new ArrayList<>();
-			targets.put(farmSide, farmSideTargets);
+		List<FarmTarget> farmSideTargets = new ArrayList<>();
 
-			BlockPos targetLocation = FarmHelper.getFarmMultiblockCorner(targetStart, farmSide, layoutDirection, minFarmCoord, maxFarmCoord);
-			BlockPos firstLocation = targetLocation.offset(farmSide.getFacing());
-			BlockPos firstGroundPosition = getGroundPosition(world, farmHousing, firstLocation);
-			if (firstGroundPosition != null) {
-				int groundHeight = firstGroundPosition.getY();
+		BlockPos targetLocation = FarmHelper.getFarmMultiblockCorner(targetStart, farmSide, layoutDirection, minFarmCoord, maxFarmCoord);
+		BlockPos firstLocation = targetLocation.offset(farmSide.getFacing());
+		if (watchedAreas != null) {
+			watchedAreas.add(new StructureBoundingBox(firstLocation.down(3), firstLocation.up(2)));
+		}
 
-				for (int i = 0; i < allowedExtent; i++) {
-					targetLocation = targetLocation.offset(farmSide.getFacing());
-					BlockPos groundLocation = new BlockPos(targetLocation.getX(), groundHeight, targetLocation.getZ());
+		BlockPos firstGroundPosition = getGroundPosition(world, farmHousing, firstLocation);
+		if (firstGroundPosition != null) {
+			int groundHeight = firstGroundPosition.getY();
 
-					if (!world.isBlockLoaded(groundLocation) || !farmHousing.isValidPlatform(world, groundLocation)) {
-						break;
-					}
+			if (watchedAreas != null) {
+				// the platform the targets are placed along and the platform the extents are measured on
+				watchedAreas.add(new StructureBoundingBox(firstGroundPosition, firstGroundPosition.offset(farmSide.getFacing(), allowedExtent - 1)));
+				watchedAreas.add(new StructureBoundingBox(firstGroundPosition, firstGroundPosition.offset(layoutDirection.getFacing(), targetMaxLimit - 1)));
+			}
 
-					int targetLimit = targetMaxLimit;
-					if (!farmHousing.isSquare()) {
-						targetLimit = targetMaxLimit - i - 1;
-					}
+			for (int i = 0; i < allowedExtent; i++) {
+				targetLocation = targetLocation.offset(farmSide.getFacing());
+				BlockPos groundLocation = new BlockPos(targetLocation.getX(), groundHeight, targetLocation.getZ());
 
-					FarmTarget target = new FarmTarget(targetLocation, layoutDirection, targetLimit);
-					farmSideTargets.add(target);
+				if (!world.isBlockLoaded(groundLocation) || !farmHousing.isValidPlatform(world, groundLocation)) {
+					break;
 				}
+
+				int targetLimit = targetMaxLimit;
+				if (!farmHousing.isSquare()) {
+					targetLimit = targetMaxLimit - i - 1;
+				}
+
+				FarmTarget target = new FarmTarget(targetLocation, layoutDirection, targetLimit);
+				farmSideTargets.add(target);
 			}
 		}
+		return farmSideTargets;
 	}
 
 	@Nullable
@@ -193,12 +214,16 @@ public class FarmHelper {
 
 	public static void setExtents(World world, IFarmHousing farmHousing, Map<FarmDirection, List<FarmTarget>> targets) {
 		for (List<FarmTarget> targetsList : targets.values()) {
-			if (!targetsList.isEmpty()) {
-				BlockPos groundPosition = getGroundPosition(world, farmHousing, targetsList.get(0).getStart());
+			setExtents(world, farmHousing, targetsList);
+		}
+	}
 
-				for (FarmTarget target : targetsList) {
-					target.setExtentAndYOffset(world, groundPosition, farmHousing);
-				}
+	public static void setExtents(World world, IFarmHousing farmHousing, List<FarmTarget> targetsList) {
+		if (!targetsList.isEmpty()) {
+			BlockPos groundPosition = getGroundPosition(world, farmHousing, targetsList.get(0).getStart());
+
+			for (FarmTarget target : targetsList) {
+				target.setExtentAndYOffset(world, groundPosition, farmHousing);
 			}
 		}
 	}
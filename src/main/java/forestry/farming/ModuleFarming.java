@@ -24,13 +24,21 @@ import net.minecraft.block.BlockNetherWart;
 import net.minecraft.block.BlockOldLog;
 import net.minecraft.block.BlockPlanks;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityItem;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.chunk.Chunk;
 
 import net.minecraftforge.client.event.TextureStitchEvent;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.oredict.OreDictionary;
 
 import net.minecraftforge.fml.common.SidedProxy;
@@ -81,6 +89,8 @@ import forestry.farming.logic.FarmLogicPeat;
 import forestry.farming.logic.FarmLogicReeds;
 import forestry.farming.logic.FarmLogicSucculent;
 import forestry.farming.logic.ForestryFarmIdentifier;
+import forestry.farming.logic.TreeHarvestCache;
+import forestry.farming.logic.WindfallTracker;
 import forestry.farming.logic.farmables.FarmableAgingCrop;
 import forestry.farming.logic.farmables.FarmableChorus;
 import forestry.farming.logic.farmables.FarmableGE;
@@ -89,6 +99,7 @@ import forestry.farming.logic.farmables.FarmableStacked;
 import forestry.farming.logic.farmables.FarmableVanillaMushroom;
 import forestry.farming.logic.farmables.FarmableVanillaSapling;
 import forestry.farming.models.EnumFarmBlockTexture;
+import forestry.farming.multiblock.FarmBlockListener;
 import forestry.farming.proxy.ProxyFarming;
 import forestry.farming.tiles.TileFarmControl;
 import forestry.farming.tiles.TileFarmGearbox;
@@ -394,6 +405,40 @@ public class ModuleFarming extends BlankForestryModule {
 		hiddenItems.add(new ItemStack(getBlocks().mushroom, 1, OreDictionary.WILDCARD_VALUE));
 	}
 
+	@SubscribeEvent
+	public void handleWorldUnload(WorldEvent.Unload event) {
+		FarmBlockListener.onWorldUnloaded(event.getWorld());
+		TreeHarvestCache.onWorldUnloaded(event.getWorld());
+		WindfallTracker.onWorldUnloaded(event.getWorld());
+	}
+
+	@SubscribeEvent
+	public void handleChunkUnload(ChunkEvent.Unload event) {
+		Chunk chunk = event.getChunk();
+		WindfallTracker.onChunkUnloaded(event.getWorld(), chunk.x, chunk.z);
+	}
+
+	@SubscribeEvent
+	public void handleEntityJoin(EntityJoinWorldEvent event) {
+		Entity entity = event.getEntity();
+		if (entity instanceof EntityItem && !event.getWorld().isRemote) {
+			WindfallTracker.onItemEntered(event.getWorld(), entity.posX, entity.posZ);
+		}
+	}
+
+	@SubscribeEvent
+	public void handleEntityEnteringChunk(EntityEvent.EnteringChunk event) {
+		Entity entity = event.getEntity();
+		if (entity instanceof EntityItem && !entity.world.isRemote) {
+			WindfallTracker.onItemEnteredChunk(entity.world, event.getNewChunkX(), event.getNewChunkZ());
+		}
+	}
+
+	@SubscribeEvent
+	public void handleCropGrow(BlockEvent.CropGrowEvent.Post event) {
+		FarmBlockListener.onCropGrown(event.getWorld(), event.getPos());
+	}
+
 	@SubscribeEvent
 	@SideOnly(Side.CLIENT)
 	public void handleTextureRemap(TextureStitchEvent.Pre event) {
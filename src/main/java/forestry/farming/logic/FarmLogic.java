@@ -90,6 +90,26 @@ public abstract class FarmLogic implements IFarmLogic {
 		return crops;
 	}
 
+	/**
+	 * @return True if {@link #harvest} only looks at the column at the extent of the farm housing, false if it looks at
+	 * every column of the target.
+	 */
+	public boolean isHarvestingColumns() {
+		return false;
+	}
+
+	/**
+	 * @return True if all crops of this logic tell the world when they grow, see {@link IFarmable#isGrowthNotified()}.
+	 */
+	public boolean isGrowthNotified() {
+		for (IFarmable farmable : getFarmables()) {
+			if (!farmable.isGrowthNotified()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Nullable
 	protected ICrop getCrop(World world, BlockPos position) {
 		if (!world.isBlockLoaded(position) || world.isAirBlock(position)) {
@@ -147,6 +167,9 @@ public abstract class FarmLogic implements IFarmLogic {
 
 	protected NonNullList<ItemStack> collectEntityItems(World world, IFarmHousing farmHousing, boolean toWorldHeight) {
 		AxisAlignedBB harvestBox = getHarvestBox(world, farmHousing, toWorldHeight);
+		if (!world.isRemote && !WindfallTracker.getTracker(world).startSearch(farmHousing, this, harvestBox, world.getTotalWorldTime())) {
+			return NonNullList.create();
+		}
 
 		List<EntityItem> entityItems = world.getEntitiesWithinAABB(EntityItem.class, harvestBox, entitySelectorFarm);
 		NonNullList<ItemStack> stacks = NonNullList.create();
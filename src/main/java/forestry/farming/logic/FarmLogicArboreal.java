@@ -14,9 +14,7 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.Stack;
 
 import net.minecraft.block.state.IBlockState;
@@ -32,7 +30,20 @@ import forestry.api.farming.IFarmHousing;
 import forestry.api.farming.IFarmProperties;
 import forestry.api.farming.IFarmable;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
 public class FarmLogicArboreal extends FarmLogicHomogeneous {
+	// the search stops after this many blocks, the remaining blocks of larger trees are found by the next harvest
+	private static final int MAX_CHECKED_BLOCKS = 32768;
+	// the reused collections are shrunk back to this size after the search through a larger tree
+	private static final int SEARCH_CAPACITY = 1024;
+
+	// reused by every search, the logic is shared by all farms and only used by the server thread
+	private final LongArrayList knownCropPositions = new LongArrayList();
+	private final LongArrayList cropPositions = new LongArrayList();
+	private final LongOpenHashSet checkedBlocks = new LongOpenHashSet();
 
 	@Nullable
 	private List<IFarmable> farmables;
@@ -74,6 +85,11 @@ public class FarmLogicArboreal extends FarmLogicHomogeneous {
 		return collectEntityItems(world, farmHousing, true);
 	}
 
+	@Override
+	public boolean isHarvestingColumns() {
+		return true;
+	}
+
 	@Override
 	public Collection<ICrop> harvest(World world, IFarmHousing farmHousing, BlockPos pos, FarmDirection direction, int extent) {
 		BlockPos position = farmHousing.getValidPosition(direction, pos, extent, pos.up());
@@ -90,33 +106,99 @@ public class FarmLogicArboreal extends FarmLogicHomogeneous {
 			return Collections.emptyList();
 		}
 
+		TreeHarvestCache cache = TreeHarvestCache.getCache(world);
+		if (cache != null) {
+			Collection<ICrop> cachedCrops = getCachedCrops(world, cache, position, farmable);
+			if (cachedCrops != null) {
+				return cachedCrops;
+			}
+		}
+
 		// get all crops of the same type that are connected to the first one
-		Stack<BlockPos> knownCropPositions = new Stack<>();
-		knownCropPositions.add(position);
+		knownCropPositions.add(position.toLong());
 
-		Set<BlockPos> checkedBlocks = new HashSet<>();
 		Stack<ICrop> crops = new Stack<>();
-
-		while (!knownCropPositions.empty()) {
-			BlockPos knownCropPos = knownCropPositions.pop();
-			for (BlockPos candidate : BlockPos.getAllInBox(knownCropPos.add(-1, -1, -1), knownCropPos.add(1, 1, 1))) {
-				if (!world.isBlockLoaded(candidate)) {
-					return crops;
-				}
-
-				if (!checkedBlocks.contains(candidate)) {
-					checkedBlocks.add(candidate);
-
-					IBlockState blockState = world.getBlockState(candidate);
-					ICrop crop = farmable.getCropAt(world, candidate, blockState);
-					if (crop != null) {
-						crops.push(crop);
-						knownCropPositions.push(candidate);
+		BlockPos.MutableBlockPos candidate = new BlockPos.MutableBlockPos();
+		boolean complete = true;
+
+		search:
+		while (!knownCropPositions.isEmpty()) {
+			BlockPos knownCropPos = BlockPos.fromLong(knownCropPositions.popLong());
+			for (int x = -1; x <= 1; x++) {
+				for (int y = -1; y <= 1; y++) {
+					for (int z = -1; z <= 1; z++) {
+						candidate.setPos(knownCropPos.getX() + x, knownCropPos.getY() + y, knownCropPos.getZ() + z);
+						if (!world.isBlockLoaded(candidate)) {
+							complete = false;
+							break search;
+						}
+
+						long packedCandidate = candidate.toLong();
+						if (!checkedBlocks.add(packedCandidate)) {
+							continue;
+						}
+						if (checkedBlocks.size() > MAX_CHECKED_BLOCKS) {
+							complete = false;
+							break search;
+						}
+
+						IBlockState blockState = world.getBlockState(candidate);
+						if (blockState.getBlock().isAir(blockState, world, candidate)) {
+							continue;
+						}
+
+						// crops keep their position, so they get their own instance
+						BlockPos cropPos = candidate.toImmutable();
+						ICrop crop = farmable.getCropAt(world, cropPos, blockState);
+						if (crop != null) {
+							crops.push(crop);
+							cropPositions.add(packedCandidate);
+							knownCropPositions.add(packedCandidate);
+						}
 					}
 				}
 			}
 		}
 
+		if (cache != null && complete) {
+			cache.putTree(farmable, cropPositions);
+		}
+		clearSearch();
+		return crops;
+	}
+
+	private void clearSearch() {
+		knownCropPositions.clear();
+		cropPositions.clear();
+		checkedBlocks.clear();
+		// clearing keeps the size of the tables, every later search would have to clear the tables of a giant tree
+		knownCropPositions.trim(SEARCH_CAPACITY);
+		cropPositions.trim(SEARCH_CAPACITY);
+		checkedBlocks.trim(SEARCH_CAPACITY);
+	}
+
+	/**
+	 * @return The crops of the tree that was found at the position before, or null if the tree has to be searched again.
+	 */
+	@Nullable
+	private static Collection<ICrop> getCachedCrops(World world, TreeHarvestCache cache, BlockPos position, IFarmable farmable) {
+		TreeHarvestCache.CachedTree tree = cache.getTree(position, farmable);
+		if (tree == null) {
+			return null;
+		}
+
+		Stack<ICrop> crops = new Stack<>();
+		LongIterator iterator = tree.getPositions().iterator();
+		while (iterator.hasNext()) {
+			BlockPos cropPos = BlockPos.fromLong(iterator.nextLong());
+			ICrop crop = world.isBlockLoaded(cropPos) ? farmable.getCropAt(world, cropPos, world.getBlockState(cropPos)) : null;
+			if (crop == null) {
+				// the tree changed without a block update
+				cache.removeTree(tree);
+				return null;
+			}
+			crops.push(crop);
+		}
 		return crops;
 	}
 
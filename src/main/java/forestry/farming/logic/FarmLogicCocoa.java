@@ -180,6 +180,11 @@ public class FarmLogicCocoa extends FarmLogicSoil {
 		return true;
 	}
 
+	@Override
+	public boolean isHarvestingColumns() {
+		return true;
+	}
+
 	@Override
 	public Collection<ICrop> harvest(World world, IFarmHousing housing, BlockPos pos, FarmDirection direction, int extent) {
 		BlockPos position = housing.getValidPosition(direction, pos, extent, pos.up());
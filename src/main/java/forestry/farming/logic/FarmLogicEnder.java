@@ -59,6 +59,11 @@ public class FarmLogicEnder extends FarmLogicHomogeneous {
 		return collectEntityItems(world, farmHousing, true);
 	}
 
+	@Override
+	public boolean isHarvestingColumns() {
+		return true;
+	}
+
 	@Override
 	public Collection<ICrop> harvest(World world, IFarmHousing farmHousing, BlockPos pos, FarmDirection direction, int extent) {
 		BlockPos position = farmHousing.getValidPosition(direction, pos, extent, pos.up());
@@ -89,6 +89,17 @@ public class FarmLogicOrchard extends FarmLogic {
 		return false;
 	}
 
+	@Override
+	public boolean isHarvestingColumns() {
+		return true;
+	}
+
+	// the fruit bearers of other mods may ripen without telling the world
+	@Override
+	public boolean isGrowthNotified() {
+		return false;
+	}
+
 	@Override
 	public Collection<ICrop> harvest(World world, IFarmHousing housing, BlockPos pos, FarmDirection direction, int extent) {
 		BlockPos position = housing.getValidPosition(direction, pos, extent, pos.up());
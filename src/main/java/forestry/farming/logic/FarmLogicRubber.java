@@ -89,6 +89,11 @@ public class FarmLogicRubber extends FarmLogic {
 		return false;
 	}
 
+	@Override
+	public boolean isHarvestingColumns() {
+		return true;
+	}
+
 	@Override
 	public Collection<ICrop> harvest(World world, IFarmHousing farmHousing, BlockPos pos, FarmDirection direction, int extent) {
 		if (!active) {
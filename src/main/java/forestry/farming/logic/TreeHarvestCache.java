@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.farming.logic;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
+
+import forestry.api.farming.IFarmable;
+import forestry.core.utils.WorldEventListenerAdapter;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+/**
+ * Remembers the blocks of the trees that the arboreal logic found in a server world, so a tree does not have to be
+ * searched again when it is harvested from another of its trunk columns or by another farm.
+ * <p>
+ * Blocks of a tree that are broken, like the logs that a farm chops, are removed from the tree. A block that is placed
+ * or changed inside of the bounding box of a tree, or next to it, may connect new blocks to the tree, so the tree is
+ * forgotten.
+ */
+public class TreeHarvestCache extends WorldEventListenerAdapter {
+	private static final int MAX_TREES = 32;
+
+	private static final Map<World, TreeHarvestCache> caches = new HashMap<>();
+
+	// ordered by their last use, the tree that was not used for the longest time is forgotten first
+	private final List<CachedTree> trees = new ArrayList<>();
+	private final Long2ObjectOpenHashMap<CachedTree> treesByPosition = new Long2ObjectOpenHashMap<>();
+
+	@Nullable
+	public static TreeHarvestCache getCache(World world) {
+		if (world.isRemote) {
+			return null;
+		}
+		TreeHarvestCache cache = caches.get(world);
+		if (cache == null) {
+			cache = new TreeHarvestCache();
+			caches.put(world, cache);
+			world.addEventListener(cache);
+		}
+		return cache;
+	}
+
+	public static void onWorldUnloaded(World world) {
+		TreeHarvestCache cache = caches.remove(world);
+		if (cache != null) {
+			world.removeEventListener(cache);
+		}
+	}
+
+	/**
+	 * @return The tree that contains the given position, or null if no known tree of the farmable contains it.
+	 */
+	@Nullable
+	public CachedTree getTree(BlockPos pos, IFarmable farmable) {
+		CachedTree tree = treesByPosition.get(pos.toLong());
+		if (tree == null || tree.farmable != farmable) {
+			return null;
+		}
+		if (trees.get(trees.size() - 1) != tree) {
+			trees.remove(tree);
+			trees.add(tree);
+		}
+		return tree;
+	}
+
+	/**
+	 * @param positions The packed positions of all blocks of the tree.
+	 */
+	public void putTree(IFarmable farmable, LongCollection positions) {
+		if (positions.isEmpty()) {
+			return;
+		}
+		int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+		LongIterator iterator = positions.iterator();
+		while (iterator.hasNext()) {
+			long packedPos = iterator.nextLong();
+			CachedTree oldTree = treesByPosition.get(packedPos);
+			if (oldTree != null) {
+				removeTree(oldTree);
+			}
+			BlockPos pos = BlockPos.fromLong(packedPos);
+			minX = Math.min(minX, pos.getX());
+			minY = Math.min(minY, pos.getY());
+			minZ = Math.min(minZ, pos.getZ());
+			maxX = Math.max(maxX, pos.getX());
+			maxY = Math.max(maxY, pos.getY());
+			maxZ = Math.max(maxZ, pos.getZ());
+		}
+		// the search looks at the neighbours of every block, so changes next to the tree can change it as well
+		StructureBoundingBox area = new StructureBoundingBox(minX - 1, minY - 1, minZ - 1, maxX + 1, maxY + 1, maxZ + 1);
+		CachedTree tree = new CachedTree(farmable, new LongOpenHashSet(positions), area);
+		trees.add(tree);
+		iterator = tree.positions.iterator();
+		while (iterator.hasNext()) {
+			treesByPosition.put(iterator.nextLong(), tree);
+		}
+
+		if (trees.size() > MAX_TREES) {
+			removeTree(trees.get(0));
+		}
+	}
+
+	public void removeTree(CachedTree tree) {
+		trees.remove(tree);
+		LongIterator iterator = tree.positions.iterator();
+		while (iterator.hasNext()) {
+			treesByPosition.remove(iterator.nextLong());
+		}
+	}
+
+	@Override
+	public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+		if (trees.isEmpty()) {
+			return;
+		}
+
+		// a broken block can only take blocks away from a tree
+		if (newState.getBlock().isAir(newState, worldIn, pos)) {
+			long packedPos = pos.toLong();
+			CachedTree tree = treesByPosition.remove(packedPos);
+			if (tree != null) {
+				tree.positions.remove(packedPos);
+				if (tree.positions.isEmpty()) {
+					trees.remove(tree);
+				}
+			}
+			return;
+		}
+
+		Iterator<CachedTree> iterator = trees.iterator();
+		while (iterator.hasNext()) {
+			CachedTree tree = iterator.next();
+			if (tree.area.isVecInside(pos)) {
+				iterator.remove();
+				LongIterator positions = tree.positions.iterator();
+				while (positions.hasNext()) {
+					treesByPosition.remove(positions.nextLong());
+				}
+			}
+		}
+	}
+
+	public static class CachedTree {
+		private final IFarmable farmable;
+		private final LongSet positions;
+		private final StructureBoundingBox area;
+
+		private CachedTree(IFarmable farmable, LongSet positions, StructureBoundingBox area) {
+			this.farmable = farmable;
+			this.positions = positions;
+			this.area = area;
+		}
+
+		/**
+		 * @return The packed positions of the remaining blocks of the tree. The set is shared and must not be modified.
+		 */
+		public LongSet getPositions() {
+			return positions;
+		}
+	}
+}
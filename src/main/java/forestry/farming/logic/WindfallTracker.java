@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.farming.logic;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+
+import forestry.api.farming.IFarmHousing;
+import forestry.api.farming.IFarmLogic;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+
+/**
+ * Remembers when item entities entered the chunks under the farms of a server world, so the farm logics only search
+ * for windfall if something dropped since their last search.
+ * <p>
+ * Only chunks that a farm asked for are tracked. The logics search again every {@link #SEARCH_INTERVAL} ticks anyway,
+ * to find items that became collectable without entering a chunk.
+ */
+public class WindfallTracker {
+	private static final int SEARCH_INTERVAL = 600;
+	private static final long UNTRACKED = Long.MIN_VALUE;
+
+	private static final Map<World, WindfallTracker> trackers = new HashMap<>();
+
+	private final Long2LongMap itemArrivalTimes = new Long2LongOpenHashMap();
+	// farms that unload are dropped by the garbage collector
+	private final Map<IFarmHousing, Object2LongMap<IFarmLogic>> searchTimes = new WeakHashMap<>();
+
+	private WindfallTracker() {
+		itemArrivalTimes.defaultReturnValue(UNTRACKED);
+	}
+
+	public static WindfallTracker getTracker(World world) {
+		return trackers.computeIfAbsent(world, w -> new WindfallTracker());
+	}
+
+	/* EVENTS */
+	public static void onItemEnteredChunk(World world, int chunkX, int chunkZ) {
+		WindfallTracker tracker = trackers.get(world);
+		if (tracker != null) {
+			long key = ChunkPos.asLong(chunkX, chunkZ);
+			if (tracker.itemArrivalTimes.containsKey(key)) {
+				tracker.itemArrivalTimes.put(key, world.getTotalWorldTime());
+			}
+		}
+	}
+
+	public static void onItemEntered(World world, double posX, double posZ) {
+		onItemEnteredChunk(world, MathHelper.floor(posX) >> 4, MathHelper.floor(posZ) >> 4);
+	}
+
+	public static void onChunkUnloaded(World world, int chunkX, int chunkZ) {
+		WindfallTracker tracker = trackers.get(world);
+		if (tracker != null) {
+			tracker.itemArrivalTimes.remove(ChunkPos.asLong(chunkX, chunkZ));
+		}
+	}
+
+	public static void onWorldUnloaded(World world) {
+		trackers.remove(world);
+	}
+
+	/* SEARCHES */
+
+	/**
+	 * Checks whether the logic of the farm has to search the box for windfall and remembers the search if it has to.
+	 *
+	 * @return true if an item entered one of the chunks of the box since the last search of the logic or if the box
+	 * was not searched for a while.
+	 */
+	public boolean startSearch(IFarmHousing farmHousing, IFarmLogic logic, AxisAlignedBB box, long worldTime) {
+		Object2LongMap<IFarmLogic> logicSearchTimes = searchTimes.computeIfAbsent(farmHousing, housing -> {
+			Object2LongMap<IFarmLogic> times = new Object2LongOpenHashMap<>();
+			times.defaultReturnValue(UNTRACKED);
+			return times;
+		});
+		long lastSearchTime = logicSearchTimes.getLong(logic);
+		boolean search = lastSearchTime == UNTRACKED || worldTime - lastSearchTime >= SEARCH_INTERVAL;
+
+		int minChunkX = MathHelper.floor(box.minX) >> 4;
+		int maxChunkX = MathHelper.floor(box.maxX) >> 4;
+		int minChunkZ = MathHelper.floor(box.minZ) >> 4;
+		int maxChunkZ = MathHelper.floor(box.maxZ) >> 4;
+		for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+			for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+				long key = ChunkPos.asLong(chunkX, chunkZ);
+				long arrivalTime = itemArrivalTimes.get(key);
+				if (arrivalTime == UNTRACKED) {
+					// the items that are already inside of the chunk are unknown
+					itemArrivalTimes.put(key, worldTime);
+					search = true;
+				} else if (arrivalTime >= lastSearchTime) {
+					search = true;
+				}
+			}
+		}
+
+		if (search) {
+			logicSearchTimes.put(logic, worldTime);
+		}
+		return search;
+	}
+}
@@ -113,4 +113,9 @@ public class FarmableAgingCrop implements IFarmable {
 	public boolean isWindfall(ItemStack itemstack) {
 		return false;
 	}
+
+	@Override
+	public boolean isGrowthNotified() {
+		return true;
+	}
 }
@@ -59,4 +59,9 @@ public abstract class FarmableBase implements IFarmable {
 	public boolean isWindfall(ItemStack itemstack) {
 		return false;
 	}
+
+	@Override
+	public boolean isGrowthNotified() {
+		return true;
+	}
 }
@@ -84,4 +84,9 @@ public class FarmableChorus implements IFarmable {
 
 		return true;
 	}
+
+	@Override
+	public boolean isGrowthNotified() {
+		return true;
+	}
 }
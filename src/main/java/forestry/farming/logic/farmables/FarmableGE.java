@@ -86,4 +86,9 @@ public class FarmableGE implements IFarmable {
 		return windfall.contains(itemstack);
 	}
 
+	@Override
+	public boolean isGrowthNotified() {
+		return true;
+	}
+
 }
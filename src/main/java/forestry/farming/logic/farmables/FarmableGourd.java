@@ -70,4 +70,9 @@ public class FarmableGourd implements IFarmable {
 		return BlockUtil.setBlockWithPlaceSound(world, pos, stem.getDefaultState());
 	}
 
+	@Override
+	public boolean isGrowthNotified() {
+		return true;
+	}
+
 }
@@ -66,4 +66,9 @@ public class FarmableRusticGrape implements IFarmable {
 	public boolean isWindfall(ItemStack itemstack) {
 		return false;
 	}
+
+	@Override
+	public boolean isGrowthNotified() {
+		return true;
+	}
 }
@@ -73,4 +73,9 @@ public class FarmableRusticSapling implements IFarmable {
 		}
 		return false;
 	}
+
+	@Override
+	public boolean isGrowthNotified() {
+		return true;
+	}
 }
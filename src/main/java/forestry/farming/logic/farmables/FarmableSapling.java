@@ -112,4 +112,9 @@ public class FarmableSapling implements IFarmable {
 		}
 		return false;
 	}
+
+	@Override
+	public boolean isGrowthNotified() {
+		return true;
+	}
 }
@@ -76,4 +76,9 @@ public class FarmableStacked implements IFarmable {
 	public boolean isWindfall(ItemStack itemstack) {
 		return false;
 	}
+
+	@Override
+	public boolean isGrowthNotified() {
+		return true;
+	}
 }
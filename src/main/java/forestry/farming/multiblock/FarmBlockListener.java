@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.farming.multiblock;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import forestry.core.utils.WorldEventListenerAdapter;
+
+/**
+ * Tells the assembled farms of a server world about the block changes and crop growth that may change their farm
+ * targets or give them something to harvest.
+ */
+public class FarmBlockListener extends WorldEventListenerAdapter {
+	private static final Map<World, FarmBlockListener> listeners = new HashMap<>();
+
+	// farms that unload without being disassembled are dropped by the garbage collector
+	private final Set<FarmController> farms = Collections.newSetFromMap(new WeakHashMap<>());
+
+	public static void register(FarmController farm, World world) {
+		if (world.isRemote) {
+			return;
+		}
+		FarmBlockListener listener = listeners.get(world);
+		if (listener == null) {
+			listener = new FarmBlockListener();
+			listeners.put(world, listener);
+			world.addEventListener(listener);
+		}
+		listener.farms.add(farm);
+	}
+
+	public static void unregister(FarmController farm, World world) {
+		FarmBlockListener listener = listeners.get(world);
+		if (listener != null) {
+			listener.farms.remove(farm);
+		}
+	}
+
+	public static void onWorldUnloaded(World world) {
+		FarmBlockListener listener = listeners.remove(world);
+		if (listener != null) {
+			world.removeEventListener(listener);
+		}
+	}
+
+	public static void onCropGrown(World world, BlockPos pos) {
+		FarmBlockListener listener = listeners.get(world);
+		if (listener != null) {
+			for (FarmController farm : listener.farms) {
+				farm.onCropGrown(pos);
+			}
+		}
+	}
+
+	@Override
+	public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+		for (FarmController farm : farms) {
+			farm.onBlockChanged(pos);
+		}
+	}
+}
@@ -17,10 +17,12 @@ import com.google.common.collect.Table;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -37,6 +39,7 @@ import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3i;
 import net.minecraft.world.World;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
 
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
@@ -83,8 +86,13 @@ import forestry.farming.tiles.TileFarmGearbox;
 import forestry.farming.tiles.TileFarmPlain;
 
 public class FarmController extends RectangularMultiblockControllerBase implements IFarmControllerInternal, ILiquidTankTile {
+	// the targets are updated on block changes, this full validation catches the changes without a block update
+	private static final int TARGET_VALIDATION_INTERVAL = 400;
 
 	private final Map<FarmDirection, List<FarmTarget>> targets = new EnumMap<>(FarmDirection.class);
+	private final Map<FarmDirection, List<StructureBoundingBox>> targetAreas = new EnumMap<>(FarmDirection.class);
+	private final Set<FarmDirection> changedTargetSides = EnumSet.noneOf(FarmDirection.class);
+	private final Map<FarmDirection, FarmHarvestQueue> harvestQueues = new EnumMap<>(FarmDirection.class);
 	private final Table<FarmDirection, BlockPos, Integer> lastExtents = HashBasedTable.create();
 	private int allowedExtent = 0;
 	@Nullable
@@ -130,6 +138,10 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		this.hydrationManager = new FarmHydrationManager(this);
 		this.fertilizerManager = new FarmFertilizerManager();
 
+		for (FarmDirection direction : FarmDirection.values()) {
+			harvestQueues.put(direction, new FarmHarvestQueue(direction));
+		}
+
 		refreshFarmLogics();
 	}
 
@@ -204,6 +216,12 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 	protected void onMachineDisassembled() {
 		super.onMachineDisassembled();
 		targets.clear();
+		targetAreas.clear();
+		changedTargetSides.clear();
+		for (FarmHarvestQueue harvestQueue : harvestQueues.values()) {
+			harvestQueue.clear();
+		}
+		FarmBlockListener.unregister(this, world);
 	}
 
 	@Override
@@ -415,8 +433,10 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 	@Override
 	public boolean doWork() {
 		farmWorkTicks++;
-		if (targets.isEmpty() || farmWorkTicks % 20 == 0) {
-			setUpFarmlandTargets();
+		if (targets.isEmpty() || farmWorkTicks % TARGET_VALIDATION_INTERVAL == 0) {
+			setUpFarmlandTargets(EnumSet.allOf(FarmDirection.class));
+		} else if (!changedTargetSides.isEmpty()) {
+			setUpFarmlandTargets(changedTargetSides);
 		}
 
 		IErrorLogic errorLogic = getErrorLogic();
@@ -471,7 +491,7 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 			}
 
 			if (stage == Stage.HARVEST) {
-				Collection<ICrop> harvested = FarmHelper.harvestTargets(world, this, farmTargets, logic, farmListeners);
+				Collection<ICrop> harvested = harvestQueues.get(farmSide).harvest(world, this, logic, farmListeners);
 				farmWorkStatus.didWork = !harvested.isEmpty();
 				if (!harvested.isEmpty()) {
 					pendingCrops.addAll(harvested);
@@ -499,7 +519,7 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		return farmWorkStatus.didWork;
 	}
 
-	private void setUpFarmlandTargets() {
+	private void setUpFarmlandTargets(Set<FarmDirection> farmSides) {
 		BlockPos targetStart = getCoords();
 
 		BlockPos max = getMaximumCoord();
@@ -511,8 +531,42 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		// Set the maximum allowed extent.
 		allowedExtent = Math.max(sizeNorthSouth, sizeEastWest) * Config.farmSize + 1;
 
-		FarmHelper.createTargets(world, this, targets, targetStart, allowedExtent, sizeNorthSouth, sizeEastWest, min, max);
-		FarmHelper.setExtents(world, this, targets);
+		for (FarmDirection farmSide : farmSides) {
+			List<StructureBoundingBox> watchedAreas = new ArrayList<>();
+			List<FarmTarget> farmSideTargets = FarmHelper.createTargets(world, this, farmSide, targetStart, allowedExtent, sizeNorthSouth, sizeEastWest, min, max, watchedAreas);
+			FarmHelper.setExtents(world, this, farmSideTargets);
+			targets.put(farmSide, farmSideTargets);
+			targetAreas.put(farmSide, watchedAreas);
+			harvestQueues.get(farmSide).setTargets(farmSideTargets);
+		}
+		changedTargetSides.removeAll(farmSides);
+
+		FarmBlockListener.register(this, world);
+	}
+
+	/**
+	 * Marks the targets of all sides that depend on the block at the given position to be created again and queues the
+	 * target columns around it for the next harvest.
+	 */
+	void onBlockChanged(BlockPos pos) {
+		onCropGrown(pos);
+		for (Map.Entry<FarmDirection, List<StructureBoundingBox>> entry : targetAreas.entrySet()) {
+			for (StructureBoundingBox watchedArea : entry.getValue()) {
+				if (watchedArea.isVecInside(pos)) {
+					changedTargetSides.add(entry.getKey());
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Queues the target columns around the crop for the next harvest.
+	 */
+	void onCropGrown(BlockPos pos) {
+		for (FarmHarvestQueue harvestQueue : harvestQueues.values()) {
+			harvestQueue.onBlockChanged(pos);
+		}
 	}
 
 	private FarmWorkStatus cultivateTargets(FarmWorkStatus farmWorkStatus, List<FarmTarget> farmTargets, IFarmLogic logic, FarmDirection farmSide) {
@@ -644,6 +698,7 @@ public class FarmController extends RectangularMultiblockControllerBase implemen
 		Preconditions.checkNotNull(logic, "logic must not be null");
 		farmLogics.put(direction, logic);
 		cleanExtents(direction);
+		harvestQueues.get(direction).addAll();
 	}
 
 	@Override
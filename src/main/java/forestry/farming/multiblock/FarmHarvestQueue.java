@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ *
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.farming.multiblock;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
+
+import forestry.api.farming.FarmDirection;
+import forestry.api.farming.ICrop;
+import forestry.api.farming.IFarmHousing;
+import forestry.api.farming.IFarmListener;
+import forestry.api.farming.IFarmLogic;
+import forestry.farming.FarmHelper;
+import forestry.farming.FarmTarget;
+import forestry.farming.logic.FarmLogic;
+
+import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
+
+/**
+ * Remembers the target columns of one farm side in which crops may have grown since they were harvested.
+ * <p>
+ * Columns are added by the block updates and crop growth events inside of the farm, so the harvest only has to look at
+ * the columns in which something changed instead of walking through every target. Every {@link #SWEEP_INTERVAL}
+ * harvests all targets are harvested like before, to find the crops that grew without telling anybody.
+ * <p>
+ * Only logics whose crops all tell the world when they grow use the queue, see {@link FarmLogic#isGrowthNotified()}.
+ * All targets of the other logics are harvested on every harvest.
+ */
+public class FarmHarvestQueue {
+	private static final int SWEEP_INTERVAL = 8;
+	// logics harvest whole trees from their trunk, so the columns around a changed block are candidates as well
+	private static final int CANDIDATE_RADIUS = 2;
+
+	private final FarmDirection farmSide;
+	private final IntLinkedOpenHashSet columns = new IntLinkedOpenHashSet();
+	private List<FarmTarget> targets = Collections.emptyList();
+	@Nullable
+	private StructureBoundingBox area;
+	private int harvestsSinceSweep = 0;
+
+	public FarmHarvestQueue(FarmDirection farmSide) {
+		this.farmSide = farmSide;
+	}
+
+	/**
+	 * Sets the targets of the side. The columns that were not part of the old targets are added to the queue.
+	 */
+	public void setTargets(List<FarmTarget> newTargets) {
+		List<FarmTarget> oldTargets = targets;
+		targets = newTargets;
+		area = null;
+		if (newTargets.isEmpty()) {
+			columns.clear();
+			return;
+		}
+
+		for (int i = 0; i < newTargets.size(); i++) {
+			int oldExtent = i < oldTargets.size() ? oldTargets.get(i).getExtent() : 0;
+			for (int extent = oldExtent; extent < newTargets.get(i).getExtent(); extent++) {
+				columns.add(getKey(i, extent));
+			}
+		}
+
+		FarmTarget first = newTargets.get(0);
+		int maxLimit = 0;
+		for (FarmTarget target : newTargets) {
+			maxLimit = Math.max(maxLimit, target.getExtent());
+		}
+		BlockPos corner = first.getStart().offset(farmSide.getFacing(), newTargets.size() - 1).offset(first.getDirection().getFacing(), maxLimit - 1);
+		area = new StructureBoundingBox(first.getStart().getX(), 0, first.getStart().getZ(), corner.getX(), 255, corner.getZ());
+		area.minX -= CANDIDATE_RADIUS;
+		area.minZ -= CANDIDATE_RADIUS;
+		area.maxX += CANDIDATE_RADIUS;
+		area.maxZ += CANDIDATE_RADIUS;
+	}
+
+	/**
+	 * Adds all columns of the targets to the queue, for example after the logic of the side was changed.
+	 */
+	public void addAll() {
+		for (int i = 0; i < targets.size(); i++) {
+			for (int extent = 0; extent < targets.get(i).getExtent(); extent++) {
+				columns.add(getKey(i, extent));
+			}
+		}
+	}
+
+	public void clear() {
+		targets = Collections.emptyList();
+		area = null;
+		columns.clear();
+	}
+
+	/**
+	 * Adds the columns around the changed position to the queue.
+	 */
+	public void onBlockChanged(BlockPos pos) {
+		if (area == null || !area.isVecInside(pos)) {
+			return;
+		}
+
+		FarmTarget first = targets.get(0);
+		EnumFacing targetFacing = farmSide.getFacing();
+		EnumFacing extentFacing = first.getDirection().getFacing();
+		int offsetX = pos.getX() - first.getStart().getX();
+		int offsetZ = pos.getZ() - first.getStart().getZ();
+
+		for (int x = offsetX - CANDIDATE_RADIUS; x <= offsetX + CANDIDATE_RADIUS; x++) {
+			for (int z = offsetZ - CANDIDATE_RADIUS; z <= offsetZ + CANDIDATE_RADIUS; z++) {
+				int index = x * targetFacing.getXOffset() + z * targetFacing.getZOffset();
+				int extent = x * extentFacing.getXOffset() + z * extentFacing.getZOffset();
+				if (isColumn(index, extent)) {
+					columns.add(getKey(index, extent));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Harvests the queued columns until one of them returns crops. At most one column per target is harvested, like a
+	 * harvest of all targets would do.
+	 * <p>
+	 * Logics that harvest every column of a target at once are called once per target, the other queued columns of the
+	 * target are harvested by that call as well.
+	 */
+	public Collection<ICrop> harvest(World world, IFarmHousing housing, IFarmLogic logic, Iterable<IFarmListener> farmListeners) {
+		boolean growthNotified = logic instanceof FarmLogic && ((FarmLogic) logic).isGrowthNotified();
+		if (!growthNotified || ++harvestsSinceSweep >= SWEEP_INTERVAL) {
+			harvestsSinceSweep = 0;
+			return FarmHelper.harvestTargets(world, housing, targets, logic, farmListeners);
+		}
+
+		boolean harvestingColumns = logic instanceof FarmLogic && ((FarmLogic) logic).isHarvestingColumns();
+		for (int budget = targets.size(); budget > 0 && !columns.isEmpty(); budget--) {
+			int key = columns.removeFirstInt();
+			int index = key >>> 16;
+			int extent = key & 0xFFFF;
+			if (!isColumn(index, extent)) {
+				continue;
+			}
+
+			FarmTarget target = targets.get(index);
+			if (!harvestingColumns) {
+				for (int otherExtent = 0; otherExtent < target.getExtent(); otherExtent++) {
+					columns.remove(getKey(index, otherExtent));
+				}
+			}
+
+			// logics that work on one column at a time start at the extent of the housing
+			housing.setExtents(target.getDirection(), target.getStart().add(0, target.getYOffset(), 0), extent);
+			Collection<ICrop> harvested = FarmHelper.harvestTarget(world, housing, target, logic, farmListeners);
+			if (!harvested.isEmpty()) {
+				return harvested;
+			}
+		}
+		return Collections.emptyList();
+	}
+
+	private boolean isColumn(int index, int extent) {
+		return index >= 0 && index < targets.size() && extent >= 0 && extent < targets.get(index).getExtent();
+	}
+
+	private static int getKey(int index, int extent) {
+		return index << 16 | extent & 0xFFFF;
+	}
+}
@@ -330,6 +330,7 @@ public class ButterflyRoot extends SpeciesRoot implements IButterflyRoot {
 		}
 
 		butterflyMutations.add((IButterflyMutation) mutation);
+		invalidateMutationIndex();
 	}
 
 	@Override
@@ -218,7 +218,7 @@ public class TileCocoon extends TileEntity implements IStreamable, IOwnedTile, I
 	}
 
 	private void sendNetworkUpdate() {
-		NetworkUtil.sendNetworkPacket(new PacketTileStream(this), pos, world);
+		NetworkUtil.queueNetworkPacket(new PacketTileStream(this), pos, world);
 	}
 
 	public int getAge() {
@@ -15,6 +15,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import net.minecraft.inventory.IInventory;
 import net.minecraft.inventory.InventoryCrafting;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipe;
@@ -36,6 +37,12 @@ import forestry.worktable.inventory.InventoryCraftingForestry;
 
 public final class MemorizedRecipe implements INbtWritable, INbtReadable, IStreamable {
 	private InventoryCraftingForestry craftMatrix = new InventoryCraftingForestry();
+	private int matrixHash;
+	/**
+	 * The registry names of the recipes that were read, until they are resolved by the first use of the recipes.
+	 */
+	private final List<ResourceLocation> recipeIds = new ArrayList<>();
+	@Nullable
 	private List<IRecipe> recipes = new ArrayList<>();
 	private int selectedRecipe;
 	private long lastUsed;
@@ -51,6 +58,7 @@ public final class MemorizedRecipe implements INbtWritable, INbtReadable, IStrea
 
 	public MemorizedRecipe(InventoryCraftingForestry craftMatrix, List<IRecipe> recipes) {
 		InventoryUtil.deepCopyInventoryContents(craftMatrix, this.craftMatrix);
+		this.matrixHash = getMatrixHash(this.craftMatrix);
 		this.recipes = recipes;
 	}
 
@@ -60,11 +68,66 @@ public final class MemorizedRecipe implements INbtWritable, INbtReadable, IStrea
 
 	public void setCraftMatrix(InventoryCraftingForestry craftMatrix) {
 		this.craftMatrix = craftMatrix;
+		this.matrixHash = getMatrixHash(craftMatrix);
+	}
+
+	/**
+	 * @return A hash of the items in the slots of the craft matrix. Equal matrices have the same hash, even after they
+	 * were saved and loaded again.
+	 */
+	public int getMatrixHash() {
+		return matrixHash;
+	}
+
+	public static int getMatrixHash(IInventory craftMatrix) {
+		int hash = 0;
+		for (int slot = 0; slot < craftMatrix.getSizeInventory(); slot++) {
+			ItemStack stack = craftMatrix.getStackInSlot(slot);
+			hash *= 31;
+			if (!stack.isEmpty()) {
+				ResourceLocation itemName = stack.getItem().getRegistryName();
+				hash += (itemName != null ? itemName.hashCode() : 0) * 31 + stack.getItemDamage();
+				NBTTagCompound tagCompound = stack.getTagCompound();
+				if (tagCompound != null) {
+					hash += tagCompound.hashCode();
+				}
+			}
+		}
+		return hash;
+	}
+
+	/**
+	 * Resolves the recipes that were read by their registry names.
+	 */
+	private List<IRecipe> getRecipes() {
+		if (recipes == null) {
+			recipes = new ArrayList<>(recipeIds.size());
+			for (ResourceLocation recipeId : recipeIds) {
+				IRecipe recipe = ForgeRegistries.RECIPES.getValue(recipeId);
+				if (recipe != null) {
+					recipes.add(recipe);
+				}
+			}
+			recipeIds.clear();
+
+			if (selectedRecipe >= recipes.size()) {
+				selectedRecipe = 0;
+			}
+		}
+		return recipes;
+	}
+
+	/**
+	 * @return false if this memorized recipe has no recipes. Recipes that were not resolved yet are not resolved, so
+	 * recipes that are missing from the registry are only noticed after their first use.
+	 */
+	public boolean hasRecipes() {
+		return recipes != null ? !recipes.isEmpty() : !recipeIds.isEmpty();
 	}
 
 	public void incrementRecipe() {
 		selectedRecipe++;
-		if (selectedRecipe >= recipes.size()) {
+		if (selectedRecipe >= getRecipes().size()) {
 			selectedRecipe = 0;
 		}
 	}
@@ -72,16 +135,17 @@ public final class MemorizedRecipe implements INbtWritable, INbtReadable, IStrea
 	public void decrementRecipe() {
 		selectedRecipe--;
 		if (selectedRecipe < 0) {
-			selectedRecipe = recipes.size() - 1;
+			selectedRecipe = getRecipes().size() - 1;
 		}
 	}
 
 	public boolean hasRecipeConflict() {
-		return recipes.size() > 1;
+		return getRecipes().size() > 1;
 	}
 
 	public void removeRecipeConflicts() {
 		IRecipe recipe = getSelectedRecipe();
+		List<IRecipe> recipes = getRecipes();
 		recipes.clear();
 		recipes.add(recipe);
 		selectedRecipe = 0;
@@ -111,6 +175,7 @@ public final class MemorizedRecipe implements INbtWritable, INbtReadable, IStrea
 
 	@Nullable
 	public IRecipe getSelectedRecipe() {
+		List<IRecipe> recipes = getRecipes();
 		if (recipes.isEmpty()) {
 			return null;
 		} else {
@@ -119,7 +184,7 @@ public final class MemorizedRecipe implements INbtWritable, INbtReadable, IStrea
 	}
 
 	public boolean hasRecipe(@Nullable IRecipe recipe) {
-		return this.recipes.contains(recipe);
+		return getRecipes().contains(recipe);
 	}
 
 	public void updateLastUse(long lastUsed) {
@@ -142,6 +207,11 @@ public final class MemorizedRecipe implements INbtWritable, INbtReadable, IStrea
 	@Override
 	public final void readFromNBT(NBTTagCompound nbttagcompound) {
 		InventoryUtil.readFromNBT(craftMatrix, nbttagcompound);
+		if (nbttagcompound.hasKey("MatrixHash")) {
+			matrixHash = nbttagcompound.getInteger("MatrixHash");
+		} else {
+			matrixHash = getMatrixHash(craftMatrix);
+		}
 		lastUsed = nbttagcompound.getLong("LastUsed");
 		locked = nbttagcompound.getBoolean("Locked");
 
@@ -149,34 +219,36 @@ public final class MemorizedRecipe implements INbtWritable, INbtReadable, IStrea
 			selectedRecipe = nbttagcompound.getInteger("SelectedRecipe");
 		}
 
-		recipes.clear();
+		// The recipes are resolved when they are used for the first time
+		recipes = null;
+		recipeIds.clear();
 		NBTTagList recipesNbt = nbttagcompound.getTagList("Recipes", NBTUtilForestry.EnumNBTType.STRING.ordinal());
 		for (int i = 0; i < recipesNbt.tagCount(); i++) {
 			String recipeKey = recipesNbt.getStringTagAt(i);
-			ResourceLocation key = new ResourceLocation(recipeKey);
-			IRecipe recipe = ForgeRegistries.RECIPES.getValue(key);
-			if (recipe != null) {
-				recipes.add(recipe);
-			}
-		}
-
-		if (selectedRecipe > recipes.size()) {
-			selectedRecipe = 0;
+			recipeIds.add(new ResourceLocation(recipeKey));
 		}
 	}
 
 	@Override
 	public NBTTagCompound writeToNBT(NBTTagCompound nbttagcompound) {
 		InventoryUtil.writeToNBT(craftMatrix, nbttagcompound);
+		nbttagcompound.setInteger("MatrixHash", matrixHash);
 		nbttagcompound.setLong("LastUsed", lastUsed);
 		nbttagcompound.setBoolean("Locked", locked);
 		nbttagcompound.setInteger("SelectedRecipe", selectedRecipe);
 
 		NBTTagList recipesNbt = new NBTTagList();
-		for (IRecipe recipe : recipes) {
-			ResourceLocation recipeKey = ForgeRegistries.RECIPES.getKey(recipe);
-			if (recipeKey != null) {
-				recipesNbt.appendTag(new NBTTagString(recipeKey.toString()));
+		if (recipes == null) {
+			// Not resolved yet, the names are still the same
+			for (ResourceLocation recipeId : recipeIds) {
+				recipesNbt.appendTag(new NBTTagString(recipeId.toString()));
+			}
+		} else {
+			for (IRecipe recipe : recipes) {
+				ResourceLocation recipeKey = ForgeRegistries.RECIPES.getKey(recipe);
+				if (recipeKey != null) {
+					recipesNbt.appendTag(new NBTTagString(recipeKey.toString()));
+				}
 			}
 		}
 		nbttagcompound.setTag("Recipes", recipesNbt);
@@ -191,6 +263,7 @@ public final class MemorizedRecipe implements INbtWritable, INbtReadable, IStrea
 		data.writeBoolean(locked);
 		data.writeVarInt(selectedRecipe);
 
+		List<IRecipe> recipes = getRecipes();
 		data.writeVarInt(recipes.size());
 		for (IRecipe recipe : recipes) {
 			ResourceLocation recipeId = ForgeRegistries.RECIPES.getKey(recipe);
@@ -203,17 +276,15 @@ public final class MemorizedRecipe implements INbtWritable, INbtReadable, IStrea
 	@Override
 	public void readData(PacketBufferForestry data) throws IOException {
 		data.readInventory(craftMatrix);
+		matrixHash = getMatrixHash(craftMatrix);
 		locked = data.readBoolean();
 		selectedRecipe = data.readVarInt();
 
-		recipes.clear();
+		recipes = null;
+		recipeIds.clear();
 		int recipeCount = data.readVarInt();
 		for (int i = 0; i < recipeCount; i++) {
-			String recipeId = data.readString();
-			IRecipe recipe = ForgeRegistries.RECIPES.getValue(new ResourceLocation(recipeId));
-			if (recipe != null) {
-				recipes.add(recipe);
-			}
+			recipeIds.add(new ResourceLocation(data.readString()));
 		}
 	}
 }
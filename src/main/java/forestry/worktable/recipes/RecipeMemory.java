@@ -47,7 +47,7 @@ public class RecipeMemory implements INbtWritable, IStreamable {
 		for (int j = 0; j < nbttaglist.tagCount(); ++j) {
 			NBTTagCompound recipeNbt = nbttaglist.getCompoundTagAt(j);
 			MemorizedRecipe recipe = new MemorizedRecipe(recipeNbt);
-			if (recipe.getSelectedRecipe() != null) {
+			if (recipe.hasRecipes()) {
 				memorizedRecipes.add(recipe);
 			}
 		}
@@ -76,6 +76,9 @@ public class RecipeMemory implements INbtWritable, IStreamable {
 			return;
 		}
 
+		// the search resolved all memorized recipes, drop the ones whose recipes are gone from the registry
+		memorizedRecipes.removeIf(existing -> !existing.hasRecipes());
+
 		// add a new recipe
 		if (memorizedRecipes.size() < capacity) {
 			memorizedRecipes.add(recipe);
@@ -116,7 +119,12 @@ public class RecipeMemory implements INbtWritable, IStreamable {
 		if (recipeIndex < 0 || recipeIndex >= memorizedRecipes.size()) {
 			return null;
 		}
-		return memorizedRecipes.get(recipeIndex);
+		MemorizedRecipe recipe = memorizedRecipes.get(recipeIndex);
+		if (recipe.getSelectedRecipe() == null) {
+			// none of its recipes are in the registry anymore
+			return null;
+		}
+		return recipe;
 	}
 
 	public ItemStack getRecipeDisplayOutput(int recipeIndex) {
@@ -156,7 +164,7 @@ public class RecipeMemory implements INbtWritable, IStreamable {
 	public NBTTagCompound writeToNBT(NBTTagCompound nbttagcompound) {
 		NBTTagList nbttaglist = new NBTTagList();
 		for (MemorizedRecipe recipe : memorizedRecipes) {
-			if (recipe != null && recipe.getSelectedRecipe() != null) {
+			if (recipe != null && recipe.hasRecipes()) {
 				NBTTagCompound recipeNbt = new NBTTagCompound();
 				recipe.writeToNBT(recipeNbt);
 				nbttaglist.appendTag(recipeNbt);
@@ -239,6 +239,15 @@ public class TileWorktable extends TileBase implements ICrafterWorktable {
 	}
 
 	public void setCurrentRecipe(InventoryCraftingForestry crafting) {
+		if (currentRecipe != null && currentRecipe.getMatrixHash() == MemorizedRecipe.getMatrixHash(crafting)) {
+			// The grid did not change, so the current recipe still matches it
+			NonNullList<ItemStack> stacks = InventoryUtil.getStacks(crafting);
+			NonNullList<ItemStack> currentStacks = InventoryUtil.getStacks(currentRecipe.getCraftMatrix());
+			if (ItemStackUtil.equalSets(stacks, currentStacks) && currentRecipe.getSelectedRecipe() != null) {
+				return;
+			}
+		}
+
 		List<IRecipe> recipes = RecipeUtil.findMatchingRecipes(crafting, world);
 		MemorizedRecipe recipe = recipes.isEmpty() ? null : new MemorizedRecipe(crafting, recipes);
 